@@ -1,5 +1,8 @@
 package woowacourse.auth.application;
 
+import java.util.Locale;
+import java.util.Objects;
+import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import woowacourse.auth.dto.PasswordRequest;
@@ -8,8 +11,10 @@ import woowacourse.auth.dto.TokenResponse;
 import woowacourse.auth.exception.InvalidAuthException;
 import woowacourse.auth.support.Encryption;
 import woowacourse.auth.support.JwtTokenProvider;
+import woowacourse.shoppingcart.config.CacheConfig;
 import woowacourse.shoppingcart.dao.CustomerDao;
 import woowacourse.shoppingcart.domain.customer.Customer;
+import woowacourse.shoppingcart.domain.customer.values.password.EncryptedPassword;
 
 @Service
 @Transactional(readOnly = true)
@@ -18,17 +23,22 @@ public class AuthService {
     private final CustomerDao customerDao;
     private final JwtTokenProvider jwtTokenProvider;
     private final Encryption encryption;
+    private final CacheManager cacheManager;
 
     public AuthService(final CustomerDao customerDao, final JwtTokenProvider jwtTokenProvider,
-                       final Encryption encryption) {
+                       final Encryption encryption, final CacheManager cacheManager) {
         this.customerDao = customerDao;
         this.jwtTokenProvider = jwtTokenProvider;
         this.encryption = encryption;
+        this.cacheManager = cacheManager;
     }
 
+    @Transactional
     public TokenResponse login(final TokenRequest request) {
         Customer customer = customerDao.findByUsername(request.getUsername());
         validatePasswordIsCorrect(customer, request.getPassword());
+        rehashPasswordIfNeeded(customer, request.getPassword());
+        cacheCustomerId(customer);
         String accessToken = jwtTokenProvider.createToken(customer.getUsername());
         return new TokenResponse(accessToken);
     }
@@ -38,6 +48,17 @@ public class AuthService {
         validatePasswordIsCorrect(customer, request.getPassword());
     }
 
+    private void rehashPasswordIfNeeded(final Customer customer, final String password) {
+        if (encryption.needsRehash(customer.getPassword())) {
+            customerDao.updatePassword(customer.getUsername(), new EncryptedPassword(encryption.encrypt(password)));
+        }
+    }
+
+    private void cacheCustomerId(final Customer customer) {
+        Objects.requireNonNull(cacheManager.getCache(CacheConfig.CUSTOMER_IDS))
+                .put(customer.getUsername().toLowerCase(Locale.ROOT), customer.getId());
+    }
+
     private void validatePasswordIsCorrect(Customer customer, String password) {
         if (!encryption.isSame(customer.getPassword(), password)) {
             throw new InvalidAuthException("비밀번호가 일치하지 않습니다.");
@@ -0,0 +1,30 @@
+package woowacourse.auth.config;
+
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import woowacourse.auth.support.Encryption;
+import woowacourse.auth.support.Pbkdf2PasswordHasher;
+import woowacourse.auth.support.Sha256PasswordHasher;
+
+@Configuration
+public class PasswordHasherConfig {
+
+    private static final String PBKDF2 = "pbkdf2";
+    private static final String SHA256 = "sha256";
+
+    @Bean
+    public Encryption encryption(@Value("${security.password.hasher:pbkdf2}") final String hasher,
+                                 @Value("${security.password.pbkdf2.iterations}") final int iterations) {
+        final Pbkdf2PasswordHasher pbkdf2PasswordHasher = new Pbkdf2PasswordHasher(iterations);
+        final Sha256PasswordHasher sha256PasswordHasher = new Sha256PasswordHasher();
+        if (PBKDF2.equals(hasher)) {
+            return new Encryption(pbkdf2PasswordHasher, List.of(sha256PasswordHasher));
+        }
+        if (SHA256.equals(hasher)) {
+            return new Encryption(sha256PasswordHasher, List.of(pbkdf2PasswordHasher));
+        }
+        throw new IllegalStateException("지원하지 않는 비밀번호 해시 방식입니다: " + hasher);
+    }
+}
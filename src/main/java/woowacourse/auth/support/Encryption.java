@@ -1,37 +1,42 @@
 package woowacourse.auth.support;
 
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
-import org.springframework.stereotype.Component;
+import java.util.List;
 import woowacourse.shoppingcart.domain.customer.values.password.EncryptedPassword;
 import woowacourse.shoppingcart.domain.customer.values.password.PlainPassword;
 
-@Component
 public class Encryption {
 
+    private final PasswordHasher passwordHasher;
+    private final List<PasswordHasher> legacyHashers;
+
+    public Encryption(final PasswordHasher passwordHasher, final List<PasswordHasher> legacyHashers) {
+        this.passwordHasher = passwordHasher;
+        this.legacyHashers = legacyHashers;
+    }
+
     public EncryptedPassword encrypt(PlainPassword password) {
         return new EncryptedPassword(encrypt(password.getPassword()));
     }
 
     public String encrypt(String text) {
-        try {
-            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
-            messageDigest.update(text.getBytes());
-            return bytesToHex(messageDigest.digest());
-        } catch (NoSuchAlgorithmException e) {
-            throw new IllegalStateException();
-        }
+        return passwordHasher.hash(text);
     }
 
-    private String bytesToHex(byte[] bytes) {
-        StringBuilder builder = new StringBuilder();
-        for (byte b : bytes) {
-            builder.append(String.format("%02x", b));
+    public boolean isSame(String encodedText, String plainText) {
+        if (encodedText == null) {
+            return false;
+        }
+        if (passwordHasher.supports(encodedText)) {
+            return passwordHasher.matches(encodedText, plainText);
         }
-        return builder.toString();
+        return legacyHashers.stream()
+                .filter(hasher -> hasher.supports(encodedText))
+                .findFirst()
+                .map(hasher -> hasher.matches(encodedText, plainText))
+                .orElse(false);
     }
 
-    public boolean isSame(String encodedText, String plainText) {
-        return encrypt(plainText).equals(encodedText);
+    public boolean needsRehash(String encodedText) {
+        return !passwordHasher.supports(encodedText) || passwordHasher.needsRehash(encodedText);
     }
 }
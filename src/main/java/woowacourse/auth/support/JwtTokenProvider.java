@@ -1,8 +1,8 @@
 package woowacourse.auth.support;
 
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jws;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -11,17 +11,20 @@ import java.util.Date;
 import javax.crypto.SecretKey;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import woowacourse.auth.exception.InvalidAuthException;
 
 @Component
 public class JwtTokenProvider {
 
     private final SecretKey secretKey;
     private final long validityInMilliseconds;
+    private final JwtParser jwtParser;
 
     public JwtTokenProvider(@Value("${security.jwt.token.secret-key}") final String secretKey,
                             @Value("${security.jwt.token.expire-length}") final long validityInMilliseconds) {
         this.secretKey = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
         this.validityInMilliseconds = validityInMilliseconds;
+        this.jwtParser = Jwts.parserBuilder().setSigningKey(this.secretKey).build();
     }
 
     public String createToken(String payload) {
@@ -36,18 +39,12 @@ public class JwtTokenProvider {
                 .compact();
     }
 
-    public String getPayload(String token) {
-        return Jwts.parserBuilder().setSigningKey(secretKey).build().parseClaimsJws(token).getBody().getSubject();
-    }
-
-    public boolean validateToken(String token) {
+    public VerifiedToken verify(final String token) {
         try {
-            Jws<Claims> claims = Jwts.parserBuilder().setSigningKey(secretKey).build().parseClaimsJws(token);
-
-            return !claims.getBody().getExpiration().before(new Date());
+            Claims claims = jwtParser.parseClaimsJws(token).getBody();
+            return new VerifiedToken(claims.getSubject(), claims.getExpiration().toInstant());
         } catch (JwtException | IllegalArgumentException e) {
-            return false;
+            throw new InvalidAuthException("인증되지 않은 토큰입니다.");
         }
     }
 }
-
@@ -0,0 +1,12 @@
+package woowacourse.auth.support;
+
+public interface PasswordHasher {
+
+    boolean supports(String encodedText);
+
+    String hash(String plainText);
+
+    boolean matches(String encodedText, String plainText);
+
+    boolean needsRehash(String encodedText);
+}
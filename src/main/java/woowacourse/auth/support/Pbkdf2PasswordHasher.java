@@ -0,0 +1,74 @@
+package woowacourse.auth.support;
+
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+
+public class Pbkdf2PasswordHasher implements PasswordHasher {
+
+    private static final String PREFIX = "pbkdf2";
+    private static final String DELIMITER = "$";
+    private static final String ALGORITHM = "PBKDF2WithHmacSHA256";
+    private static final int SALT_BYTES = 16;
+    private static final int KEY_BITS = 256;
+
+    private final SecureRandom secureRandom = new SecureRandom();
+    private final int iterations;
+
+    public Pbkdf2PasswordHasher(final int iterations) {
+        if (iterations < 1) {
+            throw new IllegalArgumentException("PBKDF2 반복 횟수는 1 이상이어야 합니다.");
+        }
+        this.iterations = iterations;
+    }
+
+    @Override
+    public boolean supports(String encodedText) {
+        return encodedText.startsWith(PREFIX + DELIMITER);
+    }
+
+    @Override
+    public String hash(String plainText) {
+        byte[] salt = new byte[SALT_BYTES];
+        secureRandom.nextBytes(salt);
+        byte[] hash = derive(plainText, salt, iterations);
+        return String.join(DELIMITER, PREFIX, String.valueOf(iterations),
+                Base64.getEncoder().encodeToString(salt), Base64.getEncoder().encodeToString(hash));
+    }
+
+    @Override
+    public boolean matches(String encodedText, String plainText) {
+        String[] parts = encodedText.split("\\" + DELIMITER);
+        if (parts.length != 4) {
+            return false;
+        }
+        try {
+            int encodedIterations = Integer.parseInt(parts[1]);
+            byte[] salt = Base64.getDecoder().decode(parts[2]);
+            byte[] expected = Base64.getDecoder().decode(parts[3]);
+            return MessageDigest.isEqual(derive(plainText, salt, encodedIterations), expected);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public boolean needsRehash(String encodedText) {
+        String[] parts = encodedText.split("\\" + DELIMITER);
+        return parts.length != 4 || !String.valueOf(iterations).equals(parts[1]);
+    }
+
+    private byte[] derive(String plainText, byte[] salt, int iterations) {
+        PBEKeySpec keySpec = new PBEKeySpec(plainText.toCharArray(), salt, iterations, KEY_BITS);
+        try {
+            return SecretKeyFactory.getInstance(ALGORITHM).generateSecret(keySpec).getEncoded();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        } finally {
+            keySpec.clearPassword();
+        }
+    }
+}
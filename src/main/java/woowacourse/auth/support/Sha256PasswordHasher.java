@@ -0,0 +1,31 @@
+package woowacourse.auth.support;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+public class Sha256PasswordHasher implements PasswordHasher {
+
+    private static final int ENCODED_LENGTH = 64;
+
+    @Override
+    public boolean supports(String encodedText) {
+        return encodedText.length() == ENCODED_LENGTH && encodedText.indexOf('$') < 0;
+    }
+
+    @Override
+    public String hash(String plainText) {
+        return Sha256Hex.hash(plainText);
+    }
+
+    @Override
+    public boolean matches(String encodedText, String plainText) {
+        return MessageDigest.isEqual(
+                hash(plainText).getBytes(StandardCharsets.US_ASCII),
+                encodedText.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    @Override
+    public boolean needsRehash(String encodedText) {
+        return false;
+    }
+}
@@ -0,0 +1,56 @@
+package woowacourse.auth.support;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import java.time.Duration;
+import java.time.Instant;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class VerifiedTokenCache {
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final boolean enabled;
+    private final Cache<String, VerifiedToken> cache;
+
+    public VerifiedTokenCache(final JwtTokenProvider jwtTokenProvider,
+                              @Value("${security.jwt.token.cache.enabled:false}") final boolean enabled,
+                              @Value("${security.jwt.token.cache.maximum-size:10000}") final long maximumSize) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new UntilTokenExpiration())
+                .build();
+    }
+
+    public VerifiedToken verify(final String token) {
+        if (!enabled || token == null) {
+            return jwtTokenProvider.verify(token);
+        }
+        return cache.get(token, jwtTokenProvider::verify);
+    }
+
+    private static class UntilTokenExpiration implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(final String token, final VerifiedToken verifiedToken, final long currentTime) {
+            final Duration remaining = Duration.between(Instant.now(), verifiedToken.getExpiration());
+            return Math.max(0, remaining.toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(final String token, final VerifiedToken verifiedToken, final long currentTime,
+                                      final long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(final String token, final VerifiedToken verifiedToken, final long currentTime,
+                                    final long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -5,19 +5,19 @@ import javax.servlet.http.HttpServletResponse;
 import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.HandlerInterceptor;
-import woowacourse.auth.exception.InvalidAuthException;
 import woowacourse.auth.support.AuthorizationExtractor;
-import woowacourse.auth.support.JwtTokenProvider;
+import woowacourse.auth.support.VerifiedToken;
+import woowacourse.auth.support.VerifiedTokenCache;
 
 @Component
 public class LoginInterceptor implements HandlerInterceptor {
 
-    private final JwtTokenProvider jwtTokenProvider;
+    private final VerifiedTokenCache verifiedTokenCache;
     private final AuthenticationContext authenticationContext;
 
-    public LoginInterceptor(final JwtTokenProvider jwtTokenProvider,
+    public LoginInterceptor(final VerifiedTokenCache verifiedTokenCache,
                             final AuthenticationContext authenticationContext) {
-        this.jwtTokenProvider = jwtTokenProvider;
+        this.verifiedTokenCache = verifiedTokenCache;
         this.authenticationContext = authenticationContext;
     }
 
@@ -28,12 +28,9 @@ public class LoginInterceptor implements HandlerInterceptor {
             return true;
         }
         String accessToken = AuthorizationExtractor.extract(request);
-        if (jwtTokenProvider.validateToken(accessToken)) {
-            String payload = jwtTokenProvider.getPayload(accessToken);
-            authenticationContext.setPrincipal(payload);
-            return true;
-        }
-        throw new InvalidAuthException("인증되지 않은 토큰입니다.");
+        VerifiedToken verifiedToken = verifiedTokenCache.verify(accessToken);
+        authenticationContext.setPrincipal(verifiedToken.getSubject());
+        return true;
     }
 
     private boolean isPreflight(HttpServletRequest request) {
@@ -0,0 +1,206 @@
+package woowacourse.shoppingcart.application;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import woowacourse.shoppingcart.dao.CartItemDao;
+import woowacourse.shoppingcart.dao.CustomerDao;
+import woowacourse.shoppingcart.dao.ProductDao;
+import woowacourse.shoppingcart.domain.CartItem;
+import woowacourse.shoppingcart.domain.Quantity;
+import woowacourse.shoppingcart.domain.product.Product;
+import woowacourse.shoppingcart.dto.cartItem.CartItemBulkRequest;
+import woowacourse.shoppingcart.dto.cartItem.CartItemBulkRequest.CartItemOperationRequest;
+import woowacourse.shoppingcart.dto.cartItem.CartItemBulkResponse;
+import woowacourse.shoppingcart.dto.cartItem.CartItemOperationType;
+import woowacourse.shoppingcart.exception.InvalidCartItemException;
+import woowacourse.shoppingcart.exception.InvalidProductException;
+import woowacourse.shoppingcart.exception.NotInCustomerCartItemException;
+
+@Service
+@Transactional(rollbackFor = Exception.class)
+public class CartBulkService {
+
+    private final CartItemDao cartItemDao;
+    private final CustomerDao customerDao;
+    private final ProductDao productDao;
+
+    public CartBulkService(final CartItemDao cartItemDao, final CustomerDao customerDao,
+                           final ProductDao productDao) {
+        this.cartItemDao = cartItemDao;
+        this.customerDao = customerDao;
+        this.productDao = productDao;
+    }
+
+    public CartItemBulkResponse apply(final String customerName, final CartItemBulkRequest request) {
+        final Long customerId = customerDao.findIdByUserName(customerName);
+        return new CartItemBulkResponse(apply(customerId, request.getOperations()).stream()
+                .map(CartOperationResult::toResponse)
+                .collect(Collectors.toList()));
+    }
+
+    public List<CartOperationResult> apply(final Long customerId,
+                                           final List<CartItemOperationRequest> operations) {
+        final CartOperationResult[] results = new CartOperationResult[operations.size()];
+        final Map<Long, CartItem> cartItems = cartItemDao.findAllByCustomerId(customerId).stream()
+                .collect(Collectors.toMap(CartItem::getId, Function.identity()));
+
+        addAll(customerId, operations, cartItems.values(), results);
+        updateAll(customerId, operations, cartItems, results);
+        deleteAll(customerId, operations, results);
+        return Arrays.asList(results);
+    }
+
+    private void addAll(final Long customerId, final List<CartItemOperationRequest> operations,
+                        final Collection<CartItem> cartItems, final CartOperationResult[] results) {
+        final List<Integer> indexes = indexesOf(operations, CartItemOperationType.ADD);
+        if (indexes.isEmpty()) {
+            return;
+        }
+        final Map<Long, Integer> quantitiesByProductId = cartItems.stream()
+                .collect(Collectors.toMap(cartItem -> cartItem.getProduct().getId(), CartItem::getQuantity));
+        final Map<Long, Product> products = findProducts(operations, indexes);
+
+        final List<Integer> acceptedIndexes = new ArrayList<>();
+        final List<CartItem> additions = new ArrayList<>();
+        for (final int index : indexes) {
+            final CartItemOperationRequest operation = operations.get(index);
+            try {
+                final Product product = findProduct(products, operation.getProductId());
+                final int quantity = quantityOf(operation);
+                final int mergedQuantity = quantitiesByProductId.getOrDefault(product.getId(), 0) + quantity;
+                new CartItem(product, mergedQuantity);
+                additions.add(new CartItem(product, quantity));
+                quantitiesByProductId.put(product.getId(), mergedQuantity);
+                acceptedIndexes.add(index);
+            } catch (InvalidProductException | InvalidCartItemException | IllegalArgumentException e) {
+                results[index] = CartOperationResult.fail(CartItemOperationType.ADD, null, e);
+            }
+        }
+        cartItemDao.saveOrIncreaseQuantities(customerId, additions);
+
+        final Map<Long, CartItem> addedCartItems = cartItemDao.findByProducts(customerId, additions.stream()
+                .map(CartItem::getProduct)
+                .collect(Collectors.toList()));
+        for (final int index : acceptedIndexes) {
+            final CartItem cartItem = addedCartItems.get(operations.get(index).getProductId());
+            if (cartItem == null) {
+                results[index] = CartOperationResult.fail(CartItemOperationType.ADD, null,
+                        new InvalidCartItemException());
+                continue;
+            }
+            results[index] = CartOperationResult.added(cartItem);
+        }
+    }
+
+    private Map<Long, Product> findProducts(final List<CartItemOperationRequest> operations,
+                                            final List<Integer> indexes) {
+        final List<Long> productIds = indexes.stream()
+                .map(index -> operations.get(index).getProductId())
+                .filter(Objects::nonNull)
+                .distinct()
+                .collect(Collectors.toList());
+        return productDao.findByIds(productIds).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+    }
+
+    private Product findProduct(final Map<Long, Product> products, final Long productId) {
+        final Product product = products.get(productId);
+        if (product == null) {
+            throw new InvalidProductException();
+        }
+        return product;
+    }
+
+    private void updateAll(final Long customerId, final List<CartItemOperationRequest> operations,
+                           final Map<Long, CartItem> cartItems, final CartOperationResult[] results) {
+        final List<Integer> acceptedIndexes = new ArrayList<>();
+        final List<CartItem> updates = new ArrayList<>();
+        for (final int index : indexesOf(operations, CartItemOperationType.UPDATE)) {
+            final CartItemOperationRequest operation = operations.get(index);
+            try {
+                final Quantity quantity = new Quantity(quantityOf(operation));
+                final CartItem cartItem = findCartItem(cartItems, operation.getCartItemId());
+                updates.add(new CartItem(cartItem.getId(), cartItem.getProduct(), quantity.getQuantity()));
+                acceptedIndexes.add(index);
+            } catch (NotInCustomerCartItemException | InvalidCartItemException | IllegalArgumentException e) {
+                results[index] = CartOperationResult.fail(CartItemOperationType.UPDATE, operation.getCartItemId(), e);
+            }
+        }
+        final int[] rowCounts = cartItemDao.updateQuantitiesIfStockAvailable(customerId, updates);
+        for (int i = 0; i < acceptedIndexes.size(); i++) {
+            final int index = acceptedIndexes.get(i);
+            final Long cartItemId = operations.get(index).getCartItemId();
+            if (rowCounts[i] == 0) {
+                results[index] = CartOperationResult.fail(CartItemOperationType.UPDATE, cartItemId,
+                        updateFailure(customerId, cartItemId));
+                continue;
+            }
+            results[index] = CartOperationResult.success(CartItemOperationType.UPDATE, cartItemId);
+        }
+    }
+
+    private CartItem findCartItem(final Map<Long, CartItem> cartItems, final Long cartItemId) {
+        final CartItem cartItem = cartItems.get(cartItemId);
+        if (cartItem == null) {
+            throw new NotInCustomerCartItemException();
+        }
+        return cartItem;
+    }
+
+    private RuntimeException updateFailure(final Long customerId, final Long cartItemId) {
+        return cartItemDao.findStockByIdAndCustomerId(cartItemId, customerId)
+                .<RuntimeException>map(stock -> new InvalidCartItemException(
+                        String.format("해당 상품은 %d개 남아있습니다", stock)))
+                .orElseGet(NotInCustomerCartItemException::new);
+    }
+
+    private void deleteAll(final Long customerId, final List<CartItemOperationRequest> operations,
+                           final CartOperationResult[] results) {
+        final List<Integer> acceptedIndexes = new ArrayList<>();
+        for (final int index : indexesOf(operations, CartItemOperationType.DELETE)) {
+            if (operations.get(index).getCartItemId() == null) {
+                results[index] = CartOperationResult.fail(CartItemOperationType.DELETE, null,
+                        new NotInCustomerCartItemException());
+                continue;
+            }
+            acceptedIndexes.add(index);
+        }
+        final int[] rowCounts = cartItemDao.deleteByIdsAndCustomerId(customerId, acceptedIndexes.stream()
+                .map(index -> operations.get(index).getCartItemId())
+                .collect(Collectors.toList()));
+        for (int i = 0; i < acceptedIndexes.size(); i++) {
+            final int index = acceptedIndexes.get(i);
+            final Long cartItemId = operations.get(index).getCartItemId();
+            if (rowCounts[i] == 0) {
+                results[index] = CartOperationResult.fail(CartItemOperationType.DELETE, cartItemId,
+                        new NotInCustomerCartItemException());
+                continue;
+            }
+            results[index] = CartOperationResult.success(CartItemOperationType.DELETE, cartItemId);
+        }
+    }
+
+    private List<Integer> indexesOf(final List<CartItemOperationRequest> operations,
+                                    final CartItemOperationType type) {
+        return IntStream.range(0, operations.size())
+                .filter(index -> operations.get(index).getType() == type)
+                .boxed()
+                .collect(Collectors.toList());
+    }
+
+    private int quantityOf(final CartItemOperationRequest operation) {
+        if (operation.getQuantity() == null) {
+            throw new IllegalArgumentException("수량은 최소 1개여야 합니다.");
+        }
+        return operation.getQuantity();
+    }
+}
@@ -0,0 +1,263 @@
+package woowacourse.shoppingcart.application;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import javax.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import woowacourse.shoppingcart.dao.CustomerDao;
+import woowacourse.shoppingcart.domain.CartItem;
+import woowacourse.shoppingcart.dto.cartItem.CartItemAddRequest;
+import woowacourse.shoppingcart.dto.cartItem.CartItemBulkRequest.CartItemOperationRequest;
+import woowacourse.shoppingcart.exception.CartUnavailableException;
+
+@Component
+public class CartGroupCommitter {
+
+    private static final Logger log = LoggerFactory.getLogger(CartGroupCommitter.class);
+
+    private final CartBulkService cartBulkService;
+    private final CustomerDao customerDao;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final Duration window;
+    private final int maxGroupSize;
+    private final Duration timeout;
+    private final BlockingQueue<CartCommand> commands;
+    private volatile boolean stopped;
+    private ExecutorService writer;
+
+    public CartGroupCommitter(final CartBulkService cartBulkService, final CustomerDao customerDao,
+                              final TransactionTemplate transactionTemplate,
+                              @Value("${shoppingcart.cart.group-commit.enabled:false}") final boolean enabled,
+                              @Value("${shoppingcart.cart.group-commit.window:2ms}") final Duration window,
+                              @Value("${shoppingcart.cart.group-commit.max-group-size:64}") final int maxGroupSize,
+                              @Value("${shoppingcart.cart.group-commit.queue-capacity:10000}")
+                              final int queueCapacity,
+                              @Value("${shoppingcart.cart.group-commit.timeout:5s}") final Duration timeout) {
+        this.cartBulkService = cartBulkService;
+        this.customerDao = customerDao;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.window = window;
+        this.maxGroupSize = maxGroupSize;
+        this.timeout = timeout;
+        this.commands = new LinkedBlockingQueue<>(queueCapacity);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        writer = Executors.newSingleThreadExecutor();
+        writer.execute(this::write);
+    }
+
+    @PreDestroy
+    public void stop() {
+        stopped = true;
+        if (writer != null) {
+            writer.shutdownNow();
+        }
+        failPending();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public CartItem add(final String customerName, final CartItemAddRequest request) {
+        return submitAndWait(customerName, CartItemOperationRequest.add(request.getProductId(),
+                request.getQuantity())).getCartItem();
+    }
+
+    public void updateQuantity(final String customerName, final Long cartItemId, final int quantity) {
+        submitAndWait(customerName, CartItemOperationRequest.update(cartItemId, quantity));
+    }
+
+    public void deleteOneById(final String customerName, final Long cartItemId) {
+        submitAndWait(customerName, CartItemOperationRequest.delete(cartItemId));
+    }
+
+    private CartOperationResult submitAndWait(final String customerName, final CartItemOperationRequest operation) {
+        final Long customerId = customerDao.findIdByUserName(customerName);
+        final CartOperationResult result = await(submit(customerId, operation));
+        if (!result.isSuccess()) {
+            throw result.getError();
+        }
+        return result;
+    }
+
+    private CartCommand submit(final Long customerId, final CartItemOperationRequest operation) {
+        final CartCommand command = new CartCommand(customerId, operation);
+        if (stopped || !commands.offer(command)) {
+            throw unavailable();
+        }
+        if (stopped) {
+            failPending();
+        }
+        return command;
+    }
+
+    private CartOperationResult await(final CartCommand command) {
+        try {
+            return command.result.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            if (command.claim()) {
+                throw unavailable();
+            }
+            return awaitClaimed(command);
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            command.claim();
+            throw unavailable();
+        }
+    }
+
+    private CartOperationResult awaitClaimed(final CartCommand command) {
+        try {
+            return command.result.get();
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw unavailable();
+        }
+    }
+
+    private RuntimeException unwrap(final ExecutionException e) {
+        if (e.getCause() instanceof RuntimeException) {
+            return (RuntimeException) e.getCause();
+        }
+        return new IllegalStateException(e.getCause());
+    }
+
+    private void write() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                final List<CartCommand> group = takeGroup();
+                try {
+                    commit(group);
+                } catch (RuntimeException e) {
+                    log.error("장바구니 변경 처리 중 예상하지 못한 오류가 발생했습니다.", e);
+                } finally {
+                    fail(group);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            stopped = true;
+            failPending();
+        }
+    }
+
+    private void failPending() {
+        final List<CartCommand> remaining = new ArrayList<>();
+        commands.drainTo(remaining);
+        fail(remaining);
+    }
+
+    private void fail(final List<CartCommand> group) {
+        group.forEach(command -> command.result.completeExceptionally(unavailable()));
+    }
+
+    private CartUnavailableException unavailable() {
+        return new CartUnavailableException();
+    }
+
+    private List<CartCommand> takeGroup() throws InterruptedException {
+        final List<CartCommand> group = new ArrayList<>(maxGroupSize);
+        group.add(takeClaimed());
+        final long deadline = System.nanoTime() + window.toNanos();
+        while (group.size() < maxGroupSize) {
+            final CartCommand command = commands.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+            if (command == null) {
+                break;
+            }
+            if (command.claim()) {
+                group.add(command);
+            }
+        }
+        return group;
+    }
+
+    private CartCommand takeClaimed() throws InterruptedException {
+        CartCommand command = commands.take();
+        while (!command.claim()) {
+            command = commands.take();
+        }
+        return command;
+    }
+
+    private void commit(final List<CartCommand> group) {
+        final Collection<List<CartCommand>> groupsByCustomer = group.stream()
+                .collect(Collectors.groupingBy(command -> command.customerId, LinkedHashMap::new,
+                        Collectors.toList()))
+                .values();
+        try {
+            final List<Runnable> completions = transactionTemplate.execute(status -> groupsByCustomer.stream()
+                    .map(this::apply)
+                    .collect(Collectors.toList()));
+            completions.forEach(Runnable::run);
+        } catch (RuntimeException e) {
+            groupsByCustomer.forEach(this::commitAlone);
+        }
+    }
+
+    private void commitAlone(final List<CartCommand> customerCommands) {
+        try {
+            transactionTemplate.execute(status -> apply(customerCommands)).run();
+        } catch (RuntimeException e) {
+            customerCommands.forEach(command -> command.result.completeExceptionally(e));
+        }
+    }
+
+    private Runnable apply(final List<CartCommand> customerCommands) {
+        final List<CartOperationResult> results = cartBulkService.apply(customerCommands.get(0).customerId,
+                customerCommands.stream()
+                        .map(command -> command.operation)
+                        .collect(Collectors.toList()));
+        return () -> IntStream.range(0, customerCommands.size())
+                .forEach(index -> customerCommands.get(index).result.complete(results.get(index)));
+    }
+
+    private static class CartCommand {
+
+        private final Long customerId;
+        private final CartItemOperationRequest operation;
+        private final CompletableFuture<CartOperationResult> result = new CompletableFuture<>();
+        private final AtomicBoolean claimed = new AtomicBoolean();
+
+        private CartCommand(final Long customerId, final CartItemOperationRequest operation) {
+            this.customerId = customerId;
+            this.operation = operation;
+        }
+
+        private boolean claim() {
+            return claimed.compareAndSet(false, true);
+        }
+    }
+}
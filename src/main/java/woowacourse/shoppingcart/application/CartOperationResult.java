@@ -0,0 +1,53 @@
+package woowacourse.shoppingcart.application;
+
+import woowacourse.shoppingcart.domain.CartItem;
+import woowacourse.shoppingcart.dto.cartItem.CartItemBulkResponse.CartItemOperationResponse;
+import woowacourse.shoppingcart.dto.cartItem.CartItemOperationType;
+
+public class CartOperationResult {
+
+    private final CartItemOperationType type;
+    private final Long cartItemId;
+    private final CartItem cartItem;
+    private final RuntimeException error;
+
+    private CartOperationResult(final CartItemOperationType type, final Long cartItemId, final CartItem cartItem,
+                                final RuntimeException error) {
+        this.type = type;
+        this.cartItemId = cartItemId;
+        this.cartItem = cartItem;
+        this.error = error;
+    }
+
+    public static CartOperationResult added(final CartItem cartItem) {
+        return new CartOperationResult(CartItemOperationType.ADD, cartItem.getId(), cartItem, null);
+    }
+
+    public static CartOperationResult success(final CartItemOperationType type, final Long cartItemId) {
+        return new CartOperationResult(type, cartItemId, null, null);
+    }
+
+    public static CartOperationResult fail(final CartItemOperationType type, final Long cartItemId,
+                                           final RuntimeException error) {
+        return new CartOperationResult(type, cartItemId, null, error);
+    }
+
+    public boolean isSuccess() {
+        return error == null;
+    }
+
+    public CartItem getCartItem() {
+        return cartItem;
+    }
+
+    public RuntimeException getError() {
+        return error;
+    }
+
+    public CartItemOperationResponse toResponse() {
+        if (isSuccess()) {
+            return CartItemOperationResponse.success(type, cartItemId);
+        }
+        return CartItemOperationResponse.fail(type, cartItemId, error.getMessage());
+    }
+}
@@ -1,15 +1,17 @@
 package woowacourse.shoppingcart.application;
 
+import java.util.function.Consumer;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import woowacourse.shoppingcart.dao.CartItemDao;
 import woowacourse.shoppingcart.dao.CustomerDao;
 import woowacourse.shoppingcart.dao.ProductDao;
 import woowacourse.shoppingcart.domain.CartItem;
-import woowacourse.shoppingcart.domain.customer.Customer;
+import woowacourse.shoppingcart.domain.Quantity;
 import woowacourse.shoppingcart.domain.product.Product;
 import woowacourse.shoppingcart.dto.cartItem.CartItemAddRequest;
-import woowacourse.shoppingcart.dto.cartItem.CartItemsResponse;
+import woowacourse.shoppingcart.exception.InvalidCartItemException;
 import woowacourse.shoppingcart.exception.InvalidProductException;
 import woowacourse.shoppingcart.exception.NotInCustomerCartItemException;
 
@@ -28,41 +30,39 @@ public class CartService {
     }
 
     @Transactional
-    public Long add(final String customerName, final CartItemAddRequest request) {
+    public CartItem add(final String customerName, final CartItemAddRequest request) {
         final Long customerId = customerDao.findIdByUserName(customerName);
         Product product = productDao.findProductById(request.getProductId());
         CartItem cartItem = new CartItem(product, request.getQuantity());
         try {
-            return cartItemDao.save(customerId, cartItem);
-        } catch (Exception e) {
+            return cartItemDao.saveOrIncreaseQuantity(customerId, cartItem);
+        } catch (DataIntegrityViolationException e) {
             throw new InvalidProductException();
         }
     }
 
-    public CartItem findById(final Long cartItemId) {
-        return cartItemDao.findById(cartItemId);
+    public Long findCustomerId(final String username) {
+        return customerDao.findIdByUserName(username);
     }
 
-    public CartItemsResponse findAllByCustomerName(final String username) {
-        Long customerId = customerDao.findIdByUserName(username);
-        return new CartItemsResponse(cartItemDao.findAllByCustomerId(customerId));
+    public void forEachByCustomerId(final Long customerId, final Consumer<CartItem> consumer) {
+        cartItemDao.forEachByCustomerId(customerId, consumer);
     }
 
     @Transactional
-    public void updateQuantity(final Long cartItemId, final int quantity) {
-        CartItem cartItem = cartItemDao.findById(cartItemId);
-        cartItem.changeQuantity(quantity);
-        cartItemDao.updateQuantity(cartItem);
+    public void updateQuantity(final String customerName, final Long cartItemId, final int quantity) {
+        final Long customerId = customerDao.findIdByUserName(customerName);
+        final Quantity newQuantity = new Quantity(quantity);
+        if (!cartItemDao.updateQuantityIfStockAvailable(cartItemId, customerId, newQuantity.getQuantity())) {
+            final int stock = cartItemDao.findStockByIdAndCustomerId(cartItemId, customerId)
+                    .orElseThrow(NotInCustomerCartItemException::new);
+            throw new InvalidCartItemException(String.format("해당 상품은 %d개 남아있습니다", stock));
+        }
     }
 
     public void deleteOneById(final String customerName, final Long cartItemId) {
-        validateCustomerCart(cartItemId, customerName);
-        cartItemDao.deleteById(cartItemId);
-    }
-
-    private void validateCustomerCart(final Long cartItemId, final String username) {
-        Customer customer = customerDao.findByUsername(username);
-        if (!cartItemDao.isCartItemExistByCustomer(cartItemId, customer.getId())) {
+        final Long customerId = customerDao.findIdByUserName(customerName);
+        if (!cartItemDao.deleteByIdAndCustomerId(cartItemId, customerId)) {
             throw new NotInCustomerCartItemException();
         }
     }
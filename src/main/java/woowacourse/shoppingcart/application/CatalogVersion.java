@@ -0,0 +1,39 @@
+package woowacourse.shoppingcart.application;
+
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Component
+public class CatalogVersion {
+
+    private final AtomicLong version = new AtomicLong(System.currentTimeMillis());
+    private volatile long lastModified = System.currentTimeMillis();
+
+    public long current() {
+        return version.get();
+    }
+
+    public long lastModified() {
+        return lastModified;
+    }
+
+    public void increaseAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            increase();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                increase();
+            }
+        });
+    }
+
+    private void increase() {
+        version.incrementAndGet();
+        lastModified = System.currentTimeMillis();
+    }
+}
@@ -0,0 +1,148 @@
+package woowacourse.shoppingcart.application;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import javax.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import woowacourse.shoppingcart.dto.OrderRequest;
+import woowacourse.shoppingcart.dto.order.OrderStatusResponse;
+import woowacourse.shoppingcart.exception.CheckoutUnavailableException;
+
+@Component
+public class CheckoutQueue {
+
+    private static final Logger log = LoggerFactory.getLogger(CheckoutQueue.class);
+
+    private final OrderService orderService;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int workerCount;
+    private final int batchSize;
+    private final Semaphore capacity;
+    private final BlockingQueue<CheckoutJob> jobs = new LinkedBlockingQueue<>();
+    private volatile ExecutorService workers;
+
+    public CheckoutQueue(final OrderService orderService, final TransactionTemplate transactionTemplate,
+                         @Value("${shoppingcart.checkout.async.enabled:false}") final boolean enabled,
+                         @Value("${shoppingcart.checkout.async.queue-capacity:1000}") final int queueCapacity,
+                         @Value("${shoppingcart.checkout.async.workers:4}") final int workerCount,
+                         @Value("${shoppingcart.checkout.async.batch-size:20}") final int batchSize) {
+        this.orderService = orderService;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.workerCount = workerCount;
+        this.batchSize = batchSize;
+        this.capacity = new Semaphore(queueCapacity);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        final int abandonedCount = orderService.failPendingOrders();
+        if (abandonedCount > 0) {
+            log.warn("처리되지 못한 대기 주문 {}건을 실패 처리했습니다.", abandonedCount);
+        }
+        if (!enabled) {
+            return;
+        }
+        workers = Executors.newFixedThreadPool(workerCount);
+        for (int i = 0; i < workerCount; i++) {
+            workers.execute(this::work);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (workers != null) {
+            workers.shutdownNow();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public OrderStatusResponse accept(final List<OrderRequest> orderDetailRequests, final String customerName,
+                                      final String idempotencyKey) {
+        if (workers == null || !capacity.tryAcquire()) {
+            throw new CheckoutUnavailableException();
+        }
+        final List<Long> cartItemIds = orderDetailRequests.stream()
+                .map(OrderRequest::getCartItemId)
+                .collect(Collectors.toList());
+        final AtomicBoolean enqueued = new AtomicBoolean();
+        try {
+            return orderService.savePending(orderDetailRequests, customerName, idempotencyKey, orderId -> {
+                jobs.add(new CheckoutJob(orderId, cartItemIds));
+                enqueued.set(true);
+            });
+        } finally {
+            if (!enqueued.get()) {
+                capacity.release();
+            }
+        }
+    }
+
+    private void work() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                checkoutBatch(takeBatch());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException e) {
+                log.error("주문 처리 중 예상하지 못한 오류가 발생했습니다.", e);
+            }
+        }
+    }
+
+    private List<CheckoutJob> takeBatch() throws InterruptedException {
+        final List<CheckoutJob> batch = new ArrayList<>(batchSize);
+        batch.add(jobs.take());
+        jobs.drainTo(batch, batchSize - 1);
+        capacity.release(batch.size());
+        return batch;
+    }
+
+    private void checkoutBatch(final List<CheckoutJob> batch) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> batch.forEach(this::checkout));
+        } catch (RuntimeException e) {
+            batch.forEach(this::checkoutAlone);
+        }
+    }
+
+    private void checkoutAlone(final CheckoutJob job) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> checkout(job));
+        } catch (RuntimeException e) {
+            orderService.fail(job.orderId, e.getMessage());
+        }
+    }
+
+    private void checkout(final CheckoutJob job) {
+        orderService.checkout(job.orderId, job.cartItemIds);
+    }
+
+    private static class CheckoutJob {
+
+        private final Long orderId;
+        private final List<Long> cartItemIds;
+
+        private CheckoutJob(final Long orderId, final List<Long> cartItemIds) {
+            this.orderId = orderId;
+            this.cartItemIds = cartItemIds;
+        }
+    }
+}
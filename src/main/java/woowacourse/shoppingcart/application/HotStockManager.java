@@ -0,0 +1,82 @@
+package woowacourse.shoppingcart.application;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import woowacourse.shoppingcart.dao.ProductDao;
+import woowacourse.shoppingcart.domain.product.StripedStock;
+
+@Component
+public class HotStockManager {
+
+    private static final Logger log = LoggerFactory.getLogger(HotStockManager.class);
+
+    private final ProductDao productDao;
+    private final boolean enabled;
+    private final List<Long> productIds;
+    private final int stripeCount;
+    private final Map<Long, StripedStock> hotStocks = new ConcurrentHashMap<>();
+
+    public HotStockManager(final ProductDao productDao,
+                           @Value("${shoppingcart.stock.hot-sku.enabled:false}") final boolean enabled,
+                           @Value("${shoppingcart.stock.hot-sku.product-ids:}") final List<Long> productIds,
+                           @Value("${shoppingcart.stock.hot-sku.stripes:16}") final int stripeCount) {
+        this.productDao = productDao;
+        this.enabled = enabled;
+        this.productIds = productIds;
+        this.stripeCount = stripeCount;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void enableConfiguredProducts() {
+        if (enabled) {
+            productIds.forEach(this::enable);
+        }
+    }
+
+    public void enable(final Long productId) {
+        hotStocks.computeIfAbsent(productId, id -> new StripedStock(productDao.findStockById(id), stripeCount));
+    }
+
+    public boolean isHot(final Long productId) {
+        return hotStocks.containsKey(productId);
+    }
+
+    public boolean tryReserve(final Long productId, final int quantity) {
+        final StripedStock stock = hotStocks.get(productId);
+        if (!stock.tryTake(quantity)) {
+            return false;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(final int status) {
+                    if (status != STATUS_COMMITTED) {
+                        stock.refund(quantity);
+                    }
+                }
+            });
+        }
+        return true;
+    }
+
+    @Scheduled(fixedDelayString = "${shoppingcart.stock.hot-sku.refresh-interval:1000}")
+    public void refresh() {
+        hotStocks.keySet().forEach(productId -> {
+            try {
+                hotStocks.put(productId, new StripedStock(productDao.findStockById(productId), stripeCount));
+            } catch (RuntimeException e) {
+                log.warn("인기 상품 재고를 다시 읽지 못했습니다. productId={}", productId, e);
+            }
+        });
+    }
+}
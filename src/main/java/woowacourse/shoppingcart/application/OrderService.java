@@ -1,54 +1,259 @@
 package woowacourse.shoppingcart.application;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import woowacourse.shoppingcart.config.CacheConfig;
 import woowacourse.shoppingcart.dao.CartItemDao;
 import woowacourse.shoppingcart.dao.CustomerDao;
 import woowacourse.shoppingcart.dao.OrderDao;
+import woowacourse.shoppingcart.dao.OrderIdempotencyDao;
 import woowacourse.shoppingcart.dao.OrdersDetailDao;
 import woowacourse.shoppingcart.dao.ProductDao;
 import woowacourse.shoppingcart.domain.CartItem;
+import woowacourse.shoppingcart.domain.CursorPage;
+import woowacourse.shoppingcart.domain.Order;
 import woowacourse.shoppingcart.domain.OrderDetail;
+import woowacourse.shoppingcart.domain.OrderIdempotency;
+import woowacourse.shoppingcart.domain.OrderProgress;
+import woowacourse.shoppingcart.domain.OrderStatus;
+import woowacourse.shoppingcart.domain.OrderSummary;
 import woowacourse.shoppingcart.dto.OrderRequest;
 import woowacourse.shoppingcart.dto.order.OrderResponse;
+import woowacourse.shoppingcart.dto.order.OrderStatusResponse;
+import woowacourse.shoppingcart.dto.order.OrderSummariesResponse;
+import woowacourse.shoppingcart.dto.order.OrderSummaryResponse;
 import woowacourse.shoppingcart.dto.order.OrdersResponse;
+import woowacourse.shoppingcart.exception.InvalidCartItemException;
 import woowacourse.shoppingcart.exception.InvalidOrderException;
+import woowacourse.shoppingcart.exception.OutOfStockException;
 
 @Service
 @Transactional(rollbackFor = Exception.class)
 public class OrderService {
 
+    private static final int MAX_IDEMPOTENCY_KEY_LENGTH = 255;
+    private static final int MAX_FAILURE_REASON_LENGTH = 255;
+
     private final OrderDao orderDao;
+    private final OrderIdempotencyDao orderIdempotencyDao;
     private final OrdersDetailDao ordersDetailDao;
     private final CartItemDao cartItemDao;
     private final CustomerDao customerDao;
     private final ProductDao productDao;
+    private final HotStockManager hotStockManager;
+    private final CacheManager cacheManager;
+    private final CatalogVersion catalogVersion;
 
-    public OrderService(final OrderDao orderDao, final OrdersDetailDao ordersDetailDao,
-                        final CartItemDao cartItemDao, final CustomerDao customerDao, final ProductDao productDao) {
+    public OrderService(final OrderDao orderDao, final OrderIdempotencyDao orderIdempotencyDao,
+                        final OrdersDetailDao ordersDetailDao,
+                        final CartItemDao cartItemDao, final CustomerDao customerDao, final ProductDao productDao,
+                        final HotStockManager hotStockManager, final CacheManager cacheManager,
+                        final CatalogVersion catalogVersion) {
         this.orderDao = orderDao;
+        this.orderIdempotencyDao = orderIdempotencyDao;
         this.ordersDetailDao = ordersDetailDao;
         this.cartItemDao = cartItemDao;
         this.customerDao = customerDao;
         this.productDao = productDao;
+        this.hotStockManager = hotStockManager;
+        this.cacheManager = cacheManager;
+        this.catalogVersion = catalogVersion;
     }
 
     public Long save(final List<OrderRequest> orderDetailRequests, final String customerName) {
+        return save(orderDetailRequests, customerName, null).getId();
+    }
+
+    public OrderStatusResponse save(final List<OrderRequest> orderDetailRequests, final String customerName,
+                                    final String idempotencyKey) {
+        final Long customerId = customerDao.findIdByUserName(customerName);
+        return OrderStatusResponse.from(saveIdempotently(customerId, idempotencyKey,
+                toCartItemIds(orderDetailRequests),
+                () -> new OrderProgress(saveOrder(orderDetailRequests, customerId), OrderStatus.COMPLETED, null)));
+    }
+
+    public OrderStatusResponse savePending(final List<OrderRequest> orderDetailRequests, final String customerName,
+                                           final String idempotencyKey, final Consumer<Long> onCommitted) {
+        final Long customerId = customerDao.findIdByUserName(customerName);
+        return OrderStatusResponse.from(saveIdempotently(customerId, idempotencyKey,
+                toCartItemIds(orderDetailRequests), () -> {
+                    findCartItemsInRequestOrder(toCartItemIds(orderDetailRequests));
+                    final Long orderId = orderDao.savePending(customerId);
+                    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                        @Override
+                        public void afterCommit() {
+                            onCommitted.accept(orderId);
+                        }
+                    });
+                    return new OrderProgress(orderId, OrderStatus.PENDING, null);
+                }));
+    }
+
+    public void checkout(final Long orderId, final List<Long> cartItemIds) {
+        final List<OrderDetail> orderDetails = takeOrderDetails(cartItemIds);
+        if (!orderDao.complete(orderId, new Order(orderDetails))) {
+            throw new InvalidOrderException("대기 중인 주문이 아닙니다.");
+        }
+        ordersDetailDao.saveAll(orderId, orderDetails);
+        cartItemDao.deleteByIds(cartItemIds);
+    }
+
+    public void fail(final Long orderId, final String failureReason) {
+        orderDao.fail(orderId, abbreviate(failureReason));
+    }
+
+    private String abbreviate(final String failureReason) {
+        if (Objects.isNull(failureReason) || failureReason.length() <= MAX_FAILURE_REASON_LENGTH) {
+            return failureReason;
+        }
+        return failureReason.substring(0, MAX_FAILURE_REASON_LENGTH);
+    }
+
+    public OrderStatusResponse findStatus(final String customerName, final Long orderId) {
         final Long customerId = customerDao.findIdByUserName(customerName);
-        final Long orderId = orderDao.save(customerId);
+        return orderDao.findProgress(customerId, orderId)
+                .map(OrderStatusResponse::from)
+                .orElseThrow(() -> new InvalidOrderException("유저에게는 해당 order_id가 없습니다."));
+    }
+
+    public int failPendingOrders() {
+        return orderDao.failAllPending("서버가 다시 시작되어 주문을 처리하지 못했습니다.");
+    }
+
+    private OrderProgress saveIdempotently(final Long customerId, final String idempotencyKey,
+                                           final List<Long> cartItemIds, final Supplier<OrderProgress> orderSaver) {
+        if (Objects.isNull(idempotencyKey)) {
+            return orderSaver.get();
+        }
+        validateIdempotencyKey(idempotencyKey);
+        final String requestHash = OrderIdempotency.hash(cartItemIds);
+        final Optional<OrderProgress> replayed = findPrevious(customerId, idempotencyKey, requestHash)
+                .flatMap(previous -> replay(customerId, idempotencyKey, previous, requestHash));
+        if (replayed.isPresent()) {
+            return replayed.get();
+        }
+        final OrderProgress orderProgress = orderSaver.get();
+        orderIdempotencyDao.complete(customerId, idempotencyKey, requestHash, orderProgress.getId());
+        return orderProgress;
+    }
+
+    private Optional<OrderIdempotency> findPrevious(final Long customerId, final String idempotencyKey,
+                                                    final String requestHash) {
+        final Optional<OrderIdempotency> saved = orderIdempotencyDao.find(customerId, idempotencyKey)
+                .filter(OrderIdempotency::isCompleted);
+        if (saved.isPresent() || orderIdempotencyDao.claim(customerId, idempotencyKey, requestHash)) {
+            return saved;
+        }
+        return Optional.of(orderIdempotencyDao.findForUpdate(customerId, idempotencyKey)
+                .filter(OrderIdempotency::isCompleted)
+                .orElseThrow(() -> new InvalidOrderException("이미 처리 중인 주문 요청입니다.")));
+    }
 
-        for (final OrderRequest request : orderDetailRequests) {
-            CartItem cartItem = cartItemDao.findById(request.getCartItemId());
-            OrderDetail orderDetail = OrderDetail.from(cartItem);
-            ordersDetailDao.save(orderId, orderDetail);
-            cartItemDao.deleteById(cartItem.getId());
+    private Optional<OrderProgress> replay(final Long customerId, final String idempotencyKey,
+                                           final OrderIdempotency orderIdempotency, final String requestHash) {
+        if (!orderIdempotency.matches(requestHash)) {
+            throw new InvalidOrderException("같은 Idempotency-Key로 다른 주문을 요청할 수 없습니다.");
+        }
+        final OrderProgress orderProgress = orderDao.findProgress(customerId, orderIdempotency.getOrderId())
+                .orElseThrow(() -> new InvalidOrderException("유저에게는 해당 order_id가 없습니다."));
+        if (orderProgress.getStatus() != OrderStatus.FAILED) {
+            return Optional.of(orderProgress);
         }
+        if (!orderIdempotencyDao.release(customerId, idempotencyKey, orderIdempotency.getOrderId())) {
+            throw new InvalidOrderException("이미 처리 중인 주문 요청입니다.");
+        }
+        return Optional.empty();
+    }
+
+    private void validateIdempotencyKey(final String idempotencyKey) {
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_IDEMPOTENCY_KEY_LENGTH) {
+            throw new InvalidOrderException(
+                    String.format("Idempotency-Key는 1자 이상 %d자 이하여야 합니다.", MAX_IDEMPOTENCY_KEY_LENGTH));
+        }
+    }
+
+    private Long saveOrder(final List<OrderRequest> orderDetailRequests, final Long customerId) {
+        final List<Long> cartItemIds = toCartItemIds(orderDetailRequests);
+        final List<OrderDetail> orderDetails = takeOrderDetails(cartItemIds);
+        final Long orderId = orderDao.save(customerId, new Order(orderDetails));
+        ordersDetailDao.saveAll(orderId, orderDetails);
+        cartItemDao.deleteByIds(cartItemIds);
 
         return orderId;
     }
 
+    private List<Long> toCartItemIds(final List<OrderRequest> orderDetailRequests) {
+        return orderDetailRequests.stream()
+                .map(OrderRequest::getCartItemId)
+                .collect(Collectors.toList());
+    }
+
+    private List<OrderDetail> takeOrderDetails(final List<Long> cartItemIds) {
+        final List<CartItem> cartItems = findCartItemsInRequestOrder(cartItemIds);
+        decreaseStocks(cartItems);
+        return cartItems.stream()
+                .map(OrderDetail::from)
+                .collect(Collectors.toList());
+    }
+
+    private List<CartItem> findCartItemsInRequestOrder(final List<Long> cartItemIds) {
+        final Map<Long, CartItem> cartItems = cartItemDao.findByIds(cartItemIds).stream()
+                .collect(Collectors.toMap(CartItem::getId, Function.identity()));
+        if (cartItems.size() != cartItemIds.size()) {
+            throw new InvalidCartItemException();
+        }
+        return cartItemIds.stream()
+                .map(cartItems::get)
+                .collect(Collectors.toList());
+    }
+
+    private void decreaseStocks(final List<CartItem> cartItems) {
+        final Map<Long, Integer> quantitiesByProductId = cartItems.stream()
+                .collect(Collectors.toMap(cartItem -> cartItem.getProduct().getId(), CartItem::getQuantity,
+                        Integer::sum));
+        final List<Long> outOfStockProductIds = reserveHotStocks(quantitiesByProductId);
+        if (outOfStockProductIds.isEmpty()) {
+            outOfStockProductIds.addAll(productDao.decreaseStocks(quantitiesByProductId));
+        }
+        if (!outOfStockProductIds.isEmpty()) {
+            throw new OutOfStockException(cartItems.stream()
+                    .filter(cartItem -> outOfStockProductIds.contains(cartItem.getProduct().getId()))
+                    .map(cartItem -> String.format("%s 상품의 재고가 부족합니다.", cartItem.getProduct().getName()))
+                    .collect(Collectors.toList()));
+        }
+        evictProductCaches(quantitiesByProductId.keySet());
+        catalogVersion.increaseAfterCommit();
+    }
+
+    private List<Long> reserveHotStocks(final Map<Long, Integer> quantitiesByProductId) {
+        final List<Long> outOfStockProductIds = new ArrayList<>();
+        quantitiesByProductId.forEach((productId, quantity) -> {
+            if (hotStockManager.isHot(productId) && !hotStockManager.tryReserve(productId, quantity)) {
+                outOfStockProductIds.add(productId);
+            }
+        });
+        return outOfStockProductIds;
+    }
+
+    private void evictProductCaches(final Collection<Long> productIds) {
+        final Cache products = Objects.requireNonNull(cacheManager.getCache(CacheConfig.PRODUCTS));
+        productIds.forEach(products::evict);
+    }
+
     public OrderResponse findOrderById(final String customerName, final Long orderId) {
         validateOrderIdByCustomerName(customerName, orderId);
         List<OrderDetail> orderDetails = ordersDetailDao.findOrderDetailsByOrderId(orderId);
@@ -63,13 +268,23 @@ public class OrderService {
         }
     }
 
-    public OrdersResponse findOrdersByCustomerName(final String customerName) {
+    public OrdersResponse findOrdersByCustomerName(final String customerName, final Long cursor, final int size) {
         final Long customerId = customerDao.findIdByUserName(customerName);
-        final List<Long> orderIds = orderDao.findOrderIdsByCustomerId(customerId);
-
-        return new OrdersResponse(orderIds.stream()
-                .map(orderId -> findOrderById(customerName, orderId))
-                .collect(Collectors.toList()));
+        final List<OrderResponse> orders = new ArrayList<>();
+        final CursorPage<Order> page = new CursorPage<>(size, Order::getId,
+                order -> orders.add(OrderResponse.from(order)));
+        orderDao.forEachOrderByCustomerId(customerId, CursorPage.cursorOrFirst(cursor), page.fetchSize(), page);
+        return new OrdersResponse(orders, page.getNextCursor());
     }
 
+    public OrderSummariesResponse findOrderSummariesByCustomerName(final String customerName, final Long cursor,
+                                                                   final int size) {
+        final Long customerId = customerDao.findIdByUserName(customerName);
+        final List<OrderSummaryResponse> orders = new ArrayList<>();
+        final CursorPage<OrderSummary> page = new CursorPage<>(size, OrderSummary::getId,
+                orderSummary -> orders.add(OrderSummaryResponse.from(orderSummary)));
+        orderDao.forEachOrderSummaryByCustomerId(customerId, CursorPage.cursorOrFirst(cursor), page.fetchSize(),
+                page);
+        return new OrderSummariesResponse(orders, page.getNextCursor());
+    }
 }
@@ -1,8 +1,13 @@
 package woowacourse.shoppingcart.application;
 
+import java.util.ArrayList;
+import java.util.List;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import woowacourse.shoppingcart.dao.ProductDao;
+import woowacourse.shoppingcart.domain.CursorPage;
+import woowacourse.shoppingcart.domain.product.Product;
+import woowacourse.shoppingcart.domain.product.ProductSearchCondition;
 import woowacourse.shoppingcart.dto.product.ProductAddRequest;
 import woowacourse.shoppingcart.dto.product.ProductResponse;
 import woowacourse.shoppingcart.dto.product.ProductsResponse;
@@ -11,18 +16,25 @@ import woowacourse.shoppingcart.dto.product.ProductsResponse;
 @Transactional(rollbackFor = Exception.class)
 public class ProductService {
     private final ProductDao productDao;
+    private final CatalogVersion catalogVersion;
 
-    public ProductService(final ProductDao productDao) {
+    public ProductService(final ProductDao productDao, final CatalogVersion catalogVersion) {
         this.productDao = productDao;
+        this.catalogVersion = catalogVersion;
     }
 
     @Transactional
     public Long save(final ProductAddRequest request) {
-        return productDao.save(request.toProduct());
+        final Long productId = productDao.save(request.toProduct());
+        catalogVersion.increaseAfterCommit();
+        return productId;
     }
 
-    public ProductsResponse findAll() {
-        return new ProductsResponse(productDao.findProducts());
+    public ProductsResponse findAll(final Long cursor, final int size, final ProductSearchCondition condition) {
+        final List<Product> products = new ArrayList<>();
+        final CursorPage<Product> page = new CursorPage<>(size, Product::getId, products::add);
+        productDao.forEachProduct(condition, CursorPage.cursorOrFirst(cursor), page.fetchSize(), page);
+        return new ProductsResponse(products, page.getNextCursor());
     }
 
     public ProductResponse findById(final Long productId) {
@@ -32,5 +44,6 @@ public class ProductService {
     @Transactional
     public void deleteById(final Long productId) {
         productDao.delete(productId);
+        catalogVersion.increaseAfterCommit();
     }
 }
@@ -0,0 +1,47 @@
+package woowacourse.shoppingcart.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@EnableCaching
+@Configuration
+public class CacheConfig {
+
+    public static final String PRODUCTS = "products";
+    public static final String CUSTOMER_IDS = "customerIds";
+    public static final String ORDER_IDEMPOTENCY = "orderIdempotency";
+
+    @Bean
+    public CacheManager cacheManager(
+            @Value("${shoppingcart.cache.products.maximum-size}") final long productsMaximumSize,
+            @Value("${shoppingcart.cache.products.expire-after-write}") final Duration productsExpireAfterWrite,
+            @Value("${shoppingcart.cache.customer-ids.maximum-size}") final long customerIdsMaximumSize,
+            @Value("${shoppingcart.cache.customer-ids.expire-after-write}") final Duration customerIdsExpireAfterWrite,
+            @Value("${shoppingcart.cache.order-idempotency.maximum-size}") final long orderIdempotencyMaximumSize,
+            @Value("${shoppingcart.cache.order-idempotency.expire-after-write}")
+            final Duration orderIdempotencyExpireAfterWrite) {
+        final CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.registerCustomCache(PRODUCTS, boundedCache(productsMaximumSize, productsExpireAfterWrite));
+        cacheManager.registerCustomCache(CUSTOMER_IDS,
+                boundedCache(customerIdsMaximumSize, customerIdsExpireAfterWrite));
+        cacheManager.registerCustomCache(ORDER_IDEMPOTENCY,
+                boundedCache(orderIdempotencyMaximumSize, orderIdempotencyExpireAfterWrite));
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+
+    private Cache<Object, Object> boundedCache(final long maximumSize, final Duration expireAfterWrite) {
+        return Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+    }
+}
@@ -1,11 +1,20 @@
 package woowacourse.shoppingcart.dao;
 
 import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import org.springframework.dao.EmptyResultDataAccessException;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
@@ -16,10 +25,33 @@ import woowacourse.shoppingcart.exception.InvalidCartItemException;
 @Repository
 public class CartItemDao {
 
+    static final String FIND_BY_CUSTOMER_ID_AND_PRODUCT_ID =
+            "SELECT id, quantity FROM cart_item WHERE customer_id = ? AND product_id = ?";
+    static final String FIND_BY_PRODUCT_IDS = "SELECT id, product_id, quantity FROM cart_item "
+            + "WHERE customer_id = :customerId AND product_id IN (:productIds)";
+    static final String FIND_BY_IDS =
+            "SELECT c.id, c.quantity, c.product_id, p.name, p.price, p.stock, p.image_url FROM cart_item c "
+                    + "INNER JOIN product p ON c.product_id = p.id WHERE c.id IN (:ids)";
+    static final String FIND_ALL_BY_CUSTOMER_ID =
+            "SELECT c.id, c.quantity, c.product_id, p.name, p.price, p.stock, p.image_url FROM cart_item c "
+                    + "INNER JOIN product p ON c.product_id = p.id WHERE c.customer_id = ?";
+    static final String FIND_IDS_BY_CUSTOMER_ID = "SELECT id FROM cart_item WHERE customer_id = ?";
+    static final String FIND_PRODUCT_IDS_BY_CUSTOMER_ID = "SELECT product_id FROM cart_item WHERE customer_id = ?";
+    static final String SAVE_OR_INCREASE_QUANTITY = "INSERT INTO cart_item(customer_id, product_id, quantity) "
+            + "VALUES(?, ?, ?) ON DUPLICATE KEY UPDATE quantity = quantity + ?";
+    static final String UPDATE_QUANTITY_IF_STOCK_AVAILABLE =
+            "UPDATE cart_item SET quantity = ? WHERE id = ? AND customer_id = ? "
+                    + "AND EXISTS (SELECT 1 FROM product p WHERE p.id = cart_item.product_id AND p.stock >= ?)";
+    static final String FIND_STOCK_BY_ID_AND_CUSTOMER_ID = "SELECT p.stock FROM cart_item c "
+            + "INNER JOIN product p ON c.product_id = p.id WHERE c.id = ? AND c.customer_id = ?";
+    static final String DELETE_BY_ID_AND_CUSTOMER_ID = "DELETE FROM cart_item WHERE id = ? AND customer_id = ?";
+
     private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
 
     public CartItemDao(final JdbcTemplate jdbcTemplate) {
         this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
     }
 
     private final RowMapper<CartItem> cartItemRowMapper = ((rs, rowNum) -> {
@@ -47,64 +79,105 @@ public class CartItemDao {
         return Objects.requireNonNull(keyHolder.getKey()).longValue();
     }
 
-    public CartItem findById(final Long cartItemId) {
-        try {
-            final String sql =
-                    "SELECT c.id, c.quantity, c.product_id, p.name, p.price, p.stock, p.image_url FROM cart_item c " +
-                            "INNER JOIN product p ON c.product_id = p.id " +
-                            "WHERE c.id = ?";
-            return jdbcTemplate.queryForObject(sql, cartItemRowMapper, cartItemId);
-        } catch (EmptyResultDataAccessException e) {
-            throw new InvalidCartItemException();
+    public CartItem saveOrIncreaseQuantity(final Long customerId, final CartItem cartItem) {
+        final Product product = cartItem.getProduct();
+        jdbcTemplate.update(SAVE_OR_INCREASE_QUANTITY, customerId, product.getId(), cartItem.getQuantity(),
+                cartItem.getQuantity());
+
+        return jdbcTemplate.queryForObject(FIND_BY_CUSTOMER_ID_AND_PRODUCT_ID,
+                (rs, rowNum) -> new CartItem(rs.getLong("id"), product, rs.getInt("quantity")),
+                customerId, product.getId());
+    }
+
+    public void saveOrIncreaseQuantities(final Long customerId, final List<CartItem> cartItems) {
+        final List<Object[]> batchArgs = cartItems.stream()
+                .map(cartItem -> new Object[]{customerId, cartItem.getProduct().getId(), cartItem.getQuantity(),
+                        cartItem.getQuantity()})
+                .collect(Collectors.toList());
+        jdbcTemplate.batchUpdate(SAVE_OR_INCREASE_QUANTITY, batchArgs);
+    }
+
+    public Map<Long, CartItem> findByProducts(final Long customerId, final Collection<Product> products) {
+        if (products.isEmpty()) {
+            return Collections.emptyMap();
         }
+        final Map<Long, Product> productsById = products.stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity(), (first, second) -> first));
+        final Map<Long, CartItem> cartItemsByProductId = new HashMap<>();
+        namedParameterJdbcTemplate.query(FIND_BY_PRODUCT_IDS,
+                Map.of("customerId", customerId, "productIds", productsById.keySet()),
+                rs -> {
+                    final Product product = productsById.get(rs.getLong("product_id"));
+                    cartItemsByProductId.put(product.getId(),
+                            new CartItem(rs.getLong("id"), product, rs.getInt("quantity")));
+                });
+        return cartItemsByProductId;
+    }
+
+    public List<CartItem> findByIds(final List<Long> cartItemIds) {
+        if (cartItemIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return namedParameterJdbcTemplate.query(FIND_BY_IDS, Map.of("ids", cartItemIds), cartItemRowMapper);
     }
 
     public List<CartItem> findAllByCustomerId(final Long customerId) {
-        final String sql =
-                "SELECT c.id, c.quantity, c.product_id, p.name, p.price, p.stock, p.image_url FROM cart_item c " +
-                        "INNER JOIN product p ON c.product_id = p.id " +
-                        "WHERE c.customer_id = ?";
-        return jdbcTemplate.query(sql, cartItemRowMapper, customerId);
+        final List<CartItem> cartItems = new ArrayList<>();
+        forEachByCustomerId(customerId, cartItems::add);
+        return cartItems;
     }
 
-    public List<Long> findIdsByCustomerId(final Long customerId) {
-        final String sql = "SELECT id FROM cart_item WHERE customer_id = ?";
+    public void forEachByCustomerId(final Long customerId, final Consumer<CartItem> consumer) {
+        jdbcTemplate.query(FIND_ALL_BY_CUSTOMER_ID, rs -> {
+            consumer.accept(cartItemRowMapper.mapRow(rs, 0));
+        }, customerId);
+    }
 
-        return jdbcTemplate.query(sql, (rs, rowNum) -> rs.getLong("id"), customerId);
+    public List<Long> findIdsByCustomerId(final Long customerId) {
+        return jdbcTemplate.query(FIND_IDS_BY_CUSTOMER_ID, (rs, rowNum) -> rs.getLong("id"), customerId);
     }
 
     public List<Long> findProductIdsByCustomerId(final Long customerId) {
-        final String sql = "SELECT product_id FROM cart_item WHERE customer_id = ?";
+        return jdbcTemplate.query(FIND_PRODUCT_IDS_BY_CUSTOMER_ID, (rs, rowNum) -> rs.getLong("product_id"),
+                customerId);
+    }
 
-        return jdbcTemplate.query(sql, (rs, rowNum) -> rs.getLong("product_id"), customerId);
+    public boolean updateQuantityIfStockAvailable(final Long id, final Long customerId, final int quantity) {
+        return jdbcTemplate.update(UPDATE_QUANTITY_IF_STOCK_AVAILABLE, quantity, id, customerId, quantity) > 0;
     }
 
-    public Long findProductIdById(final Long cartId) {
-        try {
-            final String sql = "SELECT product_id FROM cart_item WHERE id = ?";
-            return jdbcTemplate.queryForObject(sql, (rs, rowNum) -> rs.getLong("product_id"), cartId);
-        } catch (EmptyResultDataAccessException e) {
-            throw new InvalidCartItemException();
-        }
+    public Optional<Integer> findStockByIdAndCustomerId(final Long id, final Long customerId) {
+        return jdbcTemplate.query(FIND_STOCK_BY_ID_AND_CUSTOMER_ID, (rs, rowNum) -> rs.getInt("stock"),
+                        id, customerId).stream()
+                .findAny();
     }
 
-    public boolean isCartItemExistByCustomer(final Long cartItemId, final Long customerId) {
-        final String sql = "SELECT EXISTS(select id from cart_item WHERE id = ? AND customer_id = ?)";
-        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(sql, Boolean.class, cartItemId, customerId));
+    public int[] updateQuantitiesIfStockAvailable(final Long customerId, final List<CartItem> cartItems) {
+        final List<Object[]> batchArgs = cartItems.stream()
+                .map(cartItem -> new Object[]{cartItem.getQuantity(), cartItem.getId(), customerId,
+                        cartItem.getQuantity()})
+                .collect(Collectors.toList());
+        return jdbcTemplate.batchUpdate(UPDATE_QUANTITY_IF_STOCK_AVAILABLE, batchArgs);
     }
 
-    public void updateQuantity(final CartItem cartItem) {
-        final String query = "UPDATE cart_item SET quantity = ? WHERE id = ?";
-        int rowCount = jdbcTemplate.update(query, cartItem.getQuantity(), cartItem.getId());
-        if (rowCount == 0) {
-            throw new InvalidCartItemException();
-        }
+    public boolean deleteByIdAndCustomerId(final Long id, final Long customerId) {
+        return jdbcTemplate.update(DELETE_BY_ID_AND_CUSTOMER_ID, id, customerId) > 0;
     }
 
-    public void deleteById(final Long id) {
-        final String sql = "DELETE FROM cart_item WHERE id = ?";
-        final int rowCount = jdbcTemplate.update(sql, id);
-        if (rowCount == 0) {
+    public int[] deleteByIdsAndCustomerId(final Long customerId, final List<Long> ids) {
+        final List<Object[]> batchArgs = ids.stream()
+                .map(id -> new Object[]{id, customerId})
+                .collect(Collectors.toList());
+        return jdbcTemplate.batchUpdate(DELETE_BY_ID_AND_CUSTOMER_ID, batchArgs);
+    }
+
+    public void deleteByIds(final List<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        final String sql = "DELETE FROM cart_item WHERE id IN (:ids)";
+        final int rowCount = namedParameterJdbcTemplate.update(sql, Map.of("ids", ids));
+        if (rowCount != ids.size()) {
             throw new InvalidCartItemException();
         }
     }
@@ -3,12 +3,15 @@ package woowacourse.shoppingcart.dao;
 import java.sql.PreparedStatement;
 import java.util.Locale;
 import java.util.Objects;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
+import woowacourse.shoppingcart.config.CacheConfig;
 import woowacourse.shoppingcart.domain.customer.Customer;
 import woowacourse.shoppingcart.domain.customer.values.password.EncryptedPassword;
 import woowacourse.shoppingcart.exception.InvalidCustomerException;
@@ -32,6 +35,7 @@ public class CustomerDao {
         this.jdbcTemplate = jdbcTemplate;
     }
 
+    @Cacheable(cacheNames = CacheConfig.CUSTOMER_IDS, key = "#userName.toLowerCase(T(java.util.Locale).ROOT)")
     public Long findIdByUserName(final String userName) {
         try {
             final String query = "SELECT id FROM customer WHERE username = ?";
@@ -89,6 +93,7 @@ public class CustomerDao {
         return rowCount;
     }
 
+    @CacheEvict(cacheNames = CacheConfig.CUSTOMER_IDS, key = "#username.toLowerCase(T(java.util.Locale).ROOT)")
     public int deleteByUsername(final String username) {
         final String query = "DELETE FROM customer WHERE username = ?";
         return jdbcTemplate.update(query, username);
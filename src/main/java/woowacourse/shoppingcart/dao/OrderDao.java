@@ -1,41 +1,148 @@
 package woowacourse.shoppingcart.dao;
 
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
+import woowacourse.shoppingcart.domain.Order;
+import woowacourse.shoppingcart.domain.OrderDetail;
+import woowacourse.shoppingcart.domain.OrderProgress;
+import woowacourse.shoppingcart.domain.OrderStatus;
+import woowacourse.shoppingcart.domain.OrderSummary;
 
 @Repository
 public class OrderDao {
 
+    static final String FIND_PROGRESS =
+            "SELECT id, status, failure_reason FROM orders WHERE customer_id = ? AND id = ?";
+    static final String FIND_ORDERS_PAGE =
+            "SELECT o.id AS orders_id, d.id, d.quantity, d.product_id, d.price, d.name, d.image_url "
+                    + "FROM (SELECT id FROM orders WHERE customer_id = ? AND id > ? AND status = 'COMPLETED' "
+                    + "ORDER BY id LIMIT ?) o "
+                    + "LEFT JOIN orders_detail d ON d.orders_id = o.id "
+                    + "ORDER BY o.id, d.id";
+    static final String FIND_ORDER_SUMMARIES_PAGE = "SELECT id, total_price, item_count FROM orders "
+            + "WHERE customer_id = ? AND id > ? AND status = 'COMPLETED' ORDER BY id LIMIT ?";
+    static final String EXISTS_BY_CUSTOMER_ID_AND_ID =
+            "SELECT EXISTS(SELECT id FROM orders WHERE customer_id = ? AND id = ? AND status = 'COMPLETED')";
+
     private final JdbcTemplate jdbcTemplate;
 
     public OrderDao(final JdbcTemplate jdbcTemplate) {
         this.jdbcTemplate = jdbcTemplate;
     }
 
-    public Long save(final Long customerId) {
-        final String sql = "INSERT INTO orders (customer_id) VALUES (?)";
+    public Long save(final Long customerId, final Order order) {
+        return save(customerId, order, OrderStatus.COMPLETED);
+    }
+
+    public Long savePending(final Long customerId) {
+        return save(customerId, new Order(List.of()), OrderStatus.PENDING);
+    }
+
+    private Long save(final Long customerId, final Order order, final OrderStatus status) {
+        final String sql = "INSERT INTO orders (customer_id, total_price, item_count, status) VALUES (?, ?, ?, ?)";
         final KeyHolder keyHolder = new GeneratedKeyHolder();
 
         jdbcTemplate.update(con -> {
             PreparedStatement preparedStatement = con.prepareStatement(sql, new String[]{"id"});
             preparedStatement.setLong(1, customerId);
+            preparedStatement.setLong(2, order.getTotalPrice());
+            preparedStatement.setInt(3, order.getItemCount());
+            preparedStatement.setString(4, status.name());
             return preparedStatement;
         }, keyHolder);
         return Objects.requireNonNull(keyHolder.getKey()).longValue();
     }
 
-    public List<Long> findOrderIdsByCustomerId(final Long customerId) {
-        final String sql = "SELECT id FROM orders WHERE customer_id = ? ";
-        return jdbcTemplate.query(sql, (rs, rowNum) -> rs.getLong("id"), customerId);
+    public boolean complete(final Long orderId, final Order order) {
+        final String sql = "UPDATE orders SET total_price = ?, item_count = ?, status = ? WHERE id = ? AND status = ?";
+        return jdbcTemplate.update(sql, order.getTotalPrice(), order.getItemCount(), OrderStatus.COMPLETED.name(),
+                orderId, OrderStatus.PENDING.name()) == 1;
+    }
+
+    public boolean fail(final Long orderId, final String failureReason) {
+        final String sql = "UPDATE orders SET status = ?, failure_reason = ? WHERE id = ? AND status = ?";
+        return jdbcTemplate.update(sql, OrderStatus.FAILED.name(), failureReason, orderId,
+                OrderStatus.PENDING.name()) == 1;
+    }
+
+    public int failAllPending(final String failureReason) {
+        final String sql = "UPDATE orders SET status = ?, failure_reason = ? WHERE status = ?";
+        return jdbcTemplate.update(sql, OrderStatus.FAILED.name(), failureReason, OrderStatus.PENDING.name());
+    }
+
+    public Optional<OrderProgress> findProgress(final Long customerId, final Long orderId) {
+        return jdbcTemplate.query(FIND_PROGRESS, (rs, rowNum) -> new OrderProgress(rs.getLong("id"),
+                        OrderStatus.valueOf(rs.getString("status")), rs.getString("failure_reason")),
+                customerId, orderId).stream().findAny();
+    }
+
+    public List<Order> findOrdersByCustomerId(final Long customerId, final long cursor, final int limit) {
+        final List<Order> orders = new ArrayList<>();
+        forEachOrderByCustomerId(customerId, cursor, limit, orders::add);
+        return orders;
+    }
+
+    public void forEachOrderByCustomerId(final Long customerId, final long cursor, final int limit,
+                                         final Consumer<Order> consumer) {
+        final OrderRowCallbackHandler handler = new OrderRowCallbackHandler(consumer);
+        jdbcTemplate.query(FIND_ORDERS_PAGE, handler, customerId, cursor, limit);
+        handler.flush();
+    }
+
+    public void forEachOrderSummaryByCustomerId(final Long customerId, final long cursor, final int limit,
+                                                final Consumer<OrderSummary> consumer) {
+        jdbcTemplate.query(FIND_ORDER_SUMMARIES_PAGE, rs -> {
+            consumer.accept(new OrderSummary(rs.getLong("id"), rs.getLong("total_price"), rs.getInt("item_count")));
+        }, customerId, cursor, limit);
     }
 
     public boolean isValidOrderId(final Long customerId, final Long orderId) {
-        final String query = "SELECT EXISTS(SELECT id FROM orders WHERE customer_id = ? AND id = ?)";
-        return jdbcTemplate.queryForObject(query, Boolean.class, customerId, orderId);
+        return jdbcTemplate.queryForObject(EXISTS_BY_CUSTOMER_ID_AND_ID, Boolean.class, customerId, orderId);
+    }
+
+    private static class OrderRowCallbackHandler implements RowCallbackHandler {
+
+        private final Consumer<Order> consumer;
+        private final List<OrderDetail> orderDetails = new ArrayList<>();
+        private Long orderId;
+
+        private OrderRowCallbackHandler(final Consumer<Order> consumer) {
+            this.consumer = consumer;
+        }
+
+        @Override
+        public void processRow(final ResultSet rs) throws SQLException {
+            final long rowOrderId = rs.getLong("orders_id");
+            if (orderId != null && orderId != rowOrderId) {
+                flush();
+            }
+            orderId = rowOrderId;
+            final long orderDetailId = rs.getLong("id");
+            if (rs.wasNull()) {
+                return;
+            }
+            orderDetails.add(new OrderDetail(orderDetailId, rs.getInt("quantity"), rs.getLong("product_id"),
+                    rs.getInt("price"), rs.getString("name"), rs.getString("image_url")));
+        }
+
+        private void flush() {
+            if (orderId == null) {
+                return;
+            }
+            consumer.accept(new Order(orderId, orderDetails));
+            orderId = null;
+            orderDetails.clear();
+        }
     }
 }
@@ -0,0 +1,70 @@
+package woowacourse.shoppingcart.dao;
+
+import java.util.Optional;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+import woowacourse.shoppingcart.config.CacheConfig;
+import woowacourse.shoppingcart.domain.OrderIdempotency;
+
+@Repository
+public class OrderIdempotencyDao {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public OrderIdempotencyDao(final JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    private final RowMapper<OrderIdempotency> orderIdempotencyRowMapper = (rs, rowNum) ->
+            new OrderIdempotency(rs.getString("request_hash"), rs.getObject("orders_id", Long.class));
+
+    @Cacheable(cacheNames = CacheConfig.ORDER_IDEMPOTENCY, key = "#customerId + ':' + #idempotencyKey",
+            unless = "#result == null || !#result.completed")
+    public Optional<OrderIdempotency> find(final Long customerId, final String idempotencyKey) {
+        final String sql = "SELECT request_hash, orders_id FROM order_idempotency "
+                + "WHERE customer_id = ? AND idempotency_key = ?";
+        return query(sql, customerId, idempotencyKey);
+    }
+
+    public Optional<OrderIdempotency> findForUpdate(final Long customerId, final String idempotencyKey) {
+        final String sql = "SELECT request_hash, orders_id FROM order_idempotency "
+                + "WHERE customer_id = ? AND idempotency_key = ? FOR UPDATE";
+        return query(sql, customerId, idempotencyKey);
+    }
+
+    public boolean claim(final Long customerId, final String idempotencyKey, final String requestHash) {
+        final String sql = "INSERT INTO order_idempotency (customer_id, idempotency_key, request_hash) "
+                + "VALUES (?, ?, ?)";
+        try {
+            jdbcTemplate.update(sql, customerId, idempotencyKey, requestHash);
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    @CachePut(cacheNames = CacheConfig.ORDER_IDEMPOTENCY, key = "#customerId + ':' + #idempotencyKey")
+    public OrderIdempotency complete(final Long customerId, final String idempotencyKey, final String requestHash,
+                                     final Long orderId) {
+        final String sql = "UPDATE order_idempotency SET orders_id = ? WHERE customer_id = ? AND idempotency_key = ?";
+        jdbcTemplate.update(sql, orderId, customerId, idempotencyKey);
+        return new OrderIdempotency(requestHash, orderId);
+    }
+
+    @CacheEvict(cacheNames = CacheConfig.ORDER_IDEMPOTENCY, key = "#customerId + ':' + #idempotencyKey")
+    public boolean release(final Long customerId, final String idempotencyKey, final Long orderId) {
+        final String sql = "UPDATE order_idempotency SET orders_id = NULL "
+                + "WHERE customer_id = ? AND idempotency_key = ? AND orders_id = ?";
+        return jdbcTemplate.update(sql, customerId, idempotencyKey, orderId) == 1;
+    }
+
+    private Optional<OrderIdempotency> query(final String sql, final Long customerId, final String idempotencyKey) {
+        return jdbcTemplate.query(sql, orderIdempotencyRowMapper, customerId, idempotencyKey).stream()
+                .findAny();
+    }
+}
@@ -3,6 +3,7 @@ package woowacourse.shoppingcart.dao;
 import java.sql.PreparedStatement;
 import java.util.List;
 import java.util.Objects;
+import java.util.stream.Collectors;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.support.GeneratedKeyHolder;
@@ -12,6 +13,10 @@ import woowacourse.shoppingcart.domain.OrderDetail;
 
 @Repository
 public class OrdersDetailDao {
+
+    static final String FIND_BY_ORDER_ID = "SELECT id, quantity, product_id, price, name, image_url "
+            + "FROM orders_detail WHERE orders_id = ? ORDER BY id";
+
     private final JdbcTemplate jdbcTemplate;
 
     public OrdersDetailDao(final JdbcTemplate jdbcTemplate) {
@@ -30,7 +35,8 @@ public class OrdersDetailDao {
     });
 
     public Long save(final Long orderId, final OrderDetail orderDetail) {
-        final String sql = "INSERT INTO orders_detail (orders_id, product_id, quantity) VALUES (?, ?, ?)";
+        final String sql = "INSERT INTO orders_detail (orders_id, product_id, quantity, price, name, image_url) "
+                + "VALUES (?, ?, ?, ?, ?, ?)";
         final KeyHolder keyHolder = new GeneratedKeyHolder();
 
         jdbcTemplate.update(con -> {
@@ -38,16 +44,25 @@ public class OrdersDetailDao {
             preparedStatement.setLong(1, orderId);
             preparedStatement.setLong(2, orderDetail.getProductId());
             preparedStatement.setLong(3, orderDetail.getQuantity());
+            preparedStatement.setInt(4, orderDetail.getPrice());
+            preparedStatement.setString(5, orderDetail.getName());
+            preparedStatement.setString(6, orderDetail.getImageUrl());
             return preparedStatement;
         }, keyHolder);
         return Objects.requireNonNull(keyHolder.getKey()).longValue();
     }
 
+    public void saveAll(final Long orderId, final List<OrderDetail> orderDetails) {
+        final String sql = "INSERT INTO orders_detail (orders_id, product_id, quantity, price, name, image_url) "
+                + "VALUES (?, ?, ?, ?, ?, ?)";
+        final List<Object[]> batchArgs = orderDetails.stream()
+                .map(orderDetail -> new Object[]{orderId, orderDetail.getProductId(), orderDetail.getQuantity(),
+                        orderDetail.getPrice(), orderDetail.getName(), orderDetail.getImageUrl()})
+                .collect(Collectors.toList());
+        jdbcTemplate.batchUpdate(sql, batchArgs);
+    }
+
     public List<OrderDetail> findOrderDetailsByOrderId(final Long orderId) {
-        final String sql = "SELECT d.id, d.quantity, d.product_id, p.price, p.name, p.image_url "
-                + "FROM orders_detail d "
-                + "INNER JOIN product p ON d.product_id = p.id "
-                + "WHERE d.orders_id = ?";
-        return jdbcTemplate.query(sql, orderDetailRowMapper, orderId);
+        return jdbcTemplate.query(FIND_BY_ORDER_ID, orderDetailRowMapper, orderId);
     }
 }
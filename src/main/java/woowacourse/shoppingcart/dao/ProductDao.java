@@ -1,20 +1,34 @@
 package woowacourse.shoppingcart.dao;
 
 import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.stereotype.Repository;
+import woowacourse.shoppingcart.config.CacheConfig;
 import woowacourse.shoppingcart.domain.product.Product;
+import woowacourse.shoppingcart.domain.product.ProductSearchCondition;
 import woowacourse.shoppingcart.exception.InvalidProductException;
 
 @Repository
 public class ProductDao {
 
+    static final String DECREASE_STOCK = "UPDATE product SET stock = stock - ? WHERE id = ? AND stock >= ?";
+
     private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
 
     private final RowMapper<Product> productRowMapper = ((rs, rowNum) ->
             Product.builder()
@@ -28,6 +42,7 @@ public class ProductDao {
 
     public ProductDao(final JdbcTemplate jdbcTemplate) {
         this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
     }
 
     public Long save(final Product product) {
@@ -46,6 +61,7 @@ public class ProductDao {
         return Objects.requireNonNull(keyHolder.getKey()).longValue();
     }
 
+    @Cacheable(cacheNames = CacheConfig.PRODUCTS, key = "#productId")
     public Product findProductById(final Long productId) {
         try {
             final String query = "SELECT id, name, price, stock, image_url FROM product WHERE id = ?";
@@ -55,11 +71,77 @@ public class ProductDao {
         }
     }
 
-    public List<Product> findProducts() {
-        final String query = "SELECT id, name, price, stock, image_url FROM product";
-        return jdbcTemplate.query(query, productRowMapper);
+    public List<Product> findByIds(final List<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        final String query = "SELECT id, name, price, stock, image_url FROM product WHERE id IN (:ids)";
+        return namedParameterJdbcTemplate.query(query, Map.of("ids", productIds), productRowMapper);
+    }
+
+    public int findStockById(final Long productId) {
+        try {
+            final String query = "SELECT stock FROM product WHERE id = ?";
+            return jdbcTemplate.queryForObject(query, Integer.class, productId);
+        } catch (EmptyResultDataAccessException e) {
+            throw new InvalidProductException();
+        }
+    }
+
+    public List<Product> findProducts(final ProductSearchCondition condition, final long cursor, final int limit) {
+        final List<Product> products = new ArrayList<>();
+        forEachProduct(condition, cursor, limit, products::add);
+        return products;
+    }
+
+    public void forEachProduct(final ProductSearchCondition condition, final long cursor, final int limit,
+                               final Consumer<Product> consumer) {
+        final List<Object> args = new ArrayList<>(List.of(cursor));
+        if (condition.hasMinPrice()) {
+            args.add(condition.getMinPrice());
+        }
+        if (condition.hasMaxPrice()) {
+            args.add(condition.getMaxPrice());
+        }
+        args.add(limit);
+        jdbcTemplate.query(findProductsPageQuery(condition), rs -> {
+            consumer.accept(productRowMapper.mapRow(rs, 0));
+        }, args.toArray());
+    }
+
+    static String findProductsPageQuery(final ProductSearchCondition condition) {
+        final StringBuilder query = new StringBuilder(
+                "SELECT id, name, price, stock, image_url FROM product WHERE id > ?");
+        if (condition.hasMinPrice()) {
+            query.append(" AND price >= ?");
+        }
+        if (condition.hasMaxPrice()) {
+            query.append(" AND price <= ?");
+        }
+        if (condition.isInStockOnly()) {
+            query.append(" AND stock > 0");
+        }
+        return query.append(" ORDER BY id LIMIT ?").toString();
+    }
+
+    public List<Long> decreaseStocks(final Map<Long, Integer> quantitiesByProductId) {
+        final List<Long> productIds = quantitiesByProductId.keySet().stream()
+                .sorted()
+                .collect(Collectors.toList());
+        final List<Object[]> batchArgs = productIds.stream()
+                .map(productId -> {
+                    final Integer quantity = quantitiesByProductId.get(productId);
+                    return new Object[]{quantity, productId, quantity};
+                })
+                .collect(Collectors.toList());
+        final int[] rowCounts = jdbcTemplate.batchUpdate(DECREASE_STOCK, batchArgs);
+        return IntStream.range(0, rowCounts.length)
+                .filter(index -> rowCounts[index] == 0)
+                .mapToObj(productIds::get)
+                .collect(Collectors.toList());
     }
 
+    @CacheEvict(cacheNames = CacheConfig.PRODUCTS, key = "#productId")
     public void delete(final Long productId) {
         final String query = "DELETE FROM product WHERE id = ?";
         jdbcTemplate.update(query, productId);
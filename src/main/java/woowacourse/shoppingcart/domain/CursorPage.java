@@ -0,0 +1,57 @@
+package woowacourse.shoppingcart.domain;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+public class CursorPage<T> implements Consumer<T> {
+
+    private static final long FIRST_CURSOR = 0L;
+
+    private final int size;
+    private final Function<T, Long> cursorOf;
+    private final Consumer<T> consumer;
+
+    private int count;
+    private Long lastCursor;
+    private boolean hasNext;
+
+    public CursorPage(final int size, final Function<T, Long> cursorOf, final Consumer<T> consumer) {
+        this.size = size;
+        this.cursorOf = cursorOf;
+        this.consumer = consumer;
+    }
+
+    public static long cursorOrFirst(final Long cursor) {
+        if (Objects.isNull(cursor)) {
+            return FIRST_CURSOR;
+        }
+        return cursor;
+    }
+
+    public int fetchSize() {
+        return size + 1;
+    }
+
+    @Override
+    public void accept(final T content) {
+        if (count == size) {
+            hasNext = true;
+            return;
+        }
+        consumer.accept(content);
+        lastCursor = cursorOf.apply(content);
+        count++;
+    }
+
+    public Long getNextCursor() {
+        if (!hasNext) {
+            return null;
+        }
+        return lastCursor;
+    }
+
+    public boolean hasNext() {
+        return hasNext;
+    }
+}
@@ -24,4 +24,14 @@ public class Order {
     public List<OrderDetail> getOrderDetails() {
         return orderDetails;
     }
+
+    public long getTotalPrice() {
+        return orderDetails.stream()
+                .mapToLong(OrderDetail::getTotalPrice)
+                .sum();
+    }
+
+    public int getItemCount() {
+        return orderDetails.size();
+    }
 }
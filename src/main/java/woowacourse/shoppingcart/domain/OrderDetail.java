@@ -55,4 +55,8 @@ public class OrderDetail {
     public int getQuantity() {
         return quantity.getQuantity();
     }
+
+    public long getTotalPrice() {
+        return (long) price * getQuantity();
+    }
 }
@@ -0,0 +1,40 @@
+package woowacourse.shoppingcart.domain;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import woowacourse.auth.support.Sha256Hex;
+
+public class OrderIdempotency {
+
+    private final String requestHash;
+    private final Long orderId;
+
+    public OrderIdempotency(final String requestHash, final Long orderId) {
+        this.requestHash = requestHash;
+        this.orderId = orderId;
+    }
+
+    public static String hash(final List<Long> cartItemIds) {
+        return Sha256Hex.hash(cartItemIds.stream()
+                .sorted()
+                .map(String::valueOf)
+                .collect(Collectors.joining(",")));
+    }
+
+    public boolean isCompleted() {
+        return Objects.nonNull(orderId);
+    }
+
+    public boolean matches(final String requestHash) {
+        return this.requestHash.equals(requestHash);
+    }
+
+    public String getRequestHash() {
+        return requestHash;
+    }
+
+    public Long getOrderId() {
+        return orderId;
+    }
+}
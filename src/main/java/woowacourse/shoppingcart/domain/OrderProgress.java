@@ -0,0 +1,26 @@
+package woowacourse.shoppingcart.domain;
+
+public class OrderProgress {
+
+    private final Long id;
+    private final OrderStatus status;
+    private final String failureReason;
+
+    public OrderProgress(final Long id, final OrderStatus status, final String failureReason) {
+        this.id = id;
+        this.status = status;
+        this.failureReason = failureReason;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public OrderStatus getStatus() {
+        return status;
+    }
+
+    public String getFailureReason() {
+        return failureReason;
+    }
+}
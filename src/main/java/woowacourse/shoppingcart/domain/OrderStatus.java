@@ -0,0 +1,7 @@
+package woowacourse.shoppingcart.domain;
+
+public enum OrderStatus {
+    PENDING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,26 @@
+package woowacourse.shoppingcart.domain;
+
+public class OrderSummary {
+
+    private final Long id;
+    private final long totalPrice;
+    private final int itemCount;
+
+    public OrderSummary(final Long id, final long totalPrice, final int itemCount) {
+        this.id = id;
+        this.totalPrice = totalPrice;
+        this.itemCount = itemCount;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public long getTotalPrice() {
+        return totalPrice;
+    }
+
+    public int getItemCount() {
+        return itemCount;
+    }
+}
@@ -2,7 +2,7 @@ package woowacourse.shoppingcart.domain.customer.values.password;
 
 public class EncryptedPassword {
 
-    private static final int ENCRYPTED_LENGTH = 64;
+    private static final int MAXIMUM_LENGTH = 255;
 
     private final String password;
 
@@ -12,9 +12,9 @@ public class EncryptedPassword {
     }
 
     private void validateLength(final String password) {
-        if (password.length() != ENCRYPTED_LENGTH) {
+        if (password == null || password.isBlank() || password.length() > MAXIMUM_LENGTH) {
             throw new IllegalArgumentException(
-                    String.format("암호화 된 비밀번호는 %d자여야 합니다.", ENCRYPTED_LENGTH));
+                    String.format("암호화 된 비밀번호는 %d자 이하여야 합니다.", MAXIMUM_LENGTH));
         }
     }
 
@@ -0,0 +1,48 @@
+package woowacourse.shoppingcart.domain.product;
+
+import java.util.Objects;
+import woowacourse.shoppingcart.exception.InvalidProductException;
+
+public class ProductSearchCondition {
+
+    private final Integer minPrice;
+    private final Integer maxPrice;
+    private final boolean inStockOnly;
+
+    public ProductSearchCondition(final Integer minPrice, final Integer maxPrice, final boolean inStockOnly) {
+        validatePriceRange(minPrice, maxPrice);
+        this.minPrice = minPrice;
+        this.maxPrice = maxPrice;
+        this.inStockOnly = inStockOnly;
+    }
+
+    public static ProductSearchCondition none() {
+        return new ProductSearchCondition(null, null, false);
+    }
+
+    private void validatePriceRange(final Integer minPrice, final Integer maxPrice) {
+        if (Objects.nonNull(minPrice) && Objects.nonNull(maxPrice) && minPrice > maxPrice) {
+            throw new InvalidProductException("최소 가격은 최대 가격보다 클 수 없습니다.");
+        }
+    }
+
+    public boolean hasMinPrice() {
+        return Objects.nonNull(minPrice);
+    }
+
+    public boolean hasMaxPrice() {
+        return Objects.nonNull(maxPrice);
+    }
+
+    public Integer getMinPrice() {
+        return minPrice;
+    }
+
+    public Integer getMaxPrice() {
+        return maxPrice;
+    }
+
+    public boolean isInStockOnly() {
+        return inStockOnly;
+    }
+}
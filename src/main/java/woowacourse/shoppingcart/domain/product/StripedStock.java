@@ -0,0 +1,67 @@
+package woowacourse.shoppingcart.domain.product;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import woowacourse.shoppingcart.exception.InvalidProductException;
+
+public class StripedStock {
+
+    private final AtomicInteger[] stripes;
+
+    public StripedStock(final int stock, final int stripeCount) {
+        validate(stock, stripeCount);
+        this.stripes = new AtomicInteger[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            final int remainder = i < stock % stripeCount ? 1 : 0;
+            stripes[i] = new AtomicInteger(stock / stripeCount + remainder);
+        }
+    }
+
+    private void validate(final int stock, final int stripeCount) {
+        if (stock < 0) {
+            throw new InvalidProductException("재고는 음수가 될 수 없습니다.");
+        }
+        if (stripeCount < 1) {
+            throw new IllegalArgumentException("재고 분할 개수는 1 이상이어야 합니다.");
+        }
+    }
+
+    public boolean tryTake(final int quantity) {
+        final int start = ThreadLocalRandom.current().nextInt(stripes.length);
+        int taken = 0;
+        for (int i = 0; i < stripes.length && taken < quantity; i++) {
+            taken += takeFrom(stripes[(start + i) % stripes.length], quantity - taken);
+        }
+        if (taken < quantity) {
+            refund(taken);
+            return false;
+        }
+        return true;
+    }
+
+    private int takeFrom(final AtomicInteger stripe, final int wanted) {
+        while (true) {
+            final int current = stripe.get();
+            final int taking = Math.min(current, wanted);
+            if (taking == 0) {
+                return 0;
+            }
+            if (stripe.compareAndSet(current, current - taking)) {
+                return taking;
+            }
+        }
+    }
+
+    public void refund(final int quantity) {
+        if (quantity > 0) {
+            stripes[ThreadLocalRandom.current().nextInt(stripes.length)].addAndGet(quantity);
+        }
+    }
+
+    public int getAvailable() {
+        return Arrays.stream(stripes)
+                .mapToInt(AtomicInteger::get)
+                .sum();
+    }
+}
@@ -0,0 +1,75 @@
+package woowacourse.shoppingcart.dto.cartItem;
+
+import java.util.List;
+import javax.validation.Valid;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+
+public class CartItemBulkRequest {
+
+    private static final int MAXIMUM_OPERATIONS = 100;
+
+    @NotEmpty
+    @Size(max = MAXIMUM_OPERATIONS)
+    private List<@Valid CartItemOperationRequest> operations;
+
+    private CartItemBulkRequest() {
+    }
+
+    public CartItemBulkRequest(final List<CartItemOperationRequest> operations) {
+        this.operations = operations;
+    }
+
+    public List<CartItemOperationRequest> getOperations() {
+        return operations;
+    }
+
+    public static class CartItemOperationRequest {
+
+        @NotNull
+        private CartItemOperationType type;
+        private Long productId;
+        private Long cartItemId;
+        private Integer quantity;
+
+        private CartItemOperationRequest() {
+        }
+
+        public CartItemOperationRequest(final CartItemOperationType type, final Long productId,
+                                        final Long cartItemId, final Integer quantity) {
+            this.type = type;
+            this.productId = productId;
+            this.cartItemId = cartItemId;
+            this.quantity = quantity;
+        }
+
+        public static CartItemOperationRequest add(final Long productId, final int quantity) {
+            return new CartItemOperationRequest(CartItemOperationType.ADD, productId, null, quantity);
+        }
+
+        public static CartItemOperationRequest update(final Long cartItemId, final int quantity) {
+            return new CartItemOperationRequest(CartItemOperationType.UPDATE, null, cartItemId, quantity);
+        }
+
+        public static CartItemOperationRequest delete(final Long cartItemId) {
+            return new CartItemOperationRequest(CartItemOperationType.DELETE, null, cartItemId, null);
+        }
+
+        public CartItemOperationType getType() {
+            return type;
+        }
+
+        public Long getProductId() {
+            return productId;
+        }
+
+        public Long getCartItemId() {
+            return cartItemId;
+        }
+
+        public Integer getQuantity() {
+            return quantity;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package woowacourse.shoppingcart.dto.cartItem;
+
+import java.util.List;
+
+public class CartItemBulkResponse {
+
+    private List<CartItemOperationResponse> results;
+
+    private CartItemBulkResponse() {
+    }
+
+    public CartItemBulkResponse(final List<CartItemOperationResponse> results) {
+        this.results = results;
+    }
+
+    public List<CartItemOperationResponse> getResults() {
+        return results;
+    }
+
+    public static class CartItemOperationResponse {
+
+        private CartItemOperationType type;
+        private Long cartItemId;
+        private boolean success;
+        private String message;
+
+        private CartItemOperationResponse() {
+        }
+
+        private CartItemOperationResponse(final CartItemOperationType type, final Long cartItemId,
+                                          final boolean success, final String message) {
+            this.type = type;
+            this.cartItemId = cartItemId;
+            this.success = success;
+            this.message = message;
+        }
+
+        public static CartItemOperationResponse success(final CartItemOperationType type, final Long cartItemId) {
+            return new CartItemOperationResponse(type, cartItemId, true, null);
+        }
+
+        public static CartItemOperationResponse fail(final CartItemOperationType type, final Long cartItemId,
+                                                     final String message) {
+            return new CartItemOperationResponse(type, cartItemId, false, message);
+        }
+
+        public CartItemOperationType getType() {
+            return type;
+        }
+
+        public Long getCartItemId() {
+            return cartItemId;
+        }
+
+        public boolean isSuccess() {
+            return success;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package woowacourse.shoppingcart.dto.cartItem;
+
+public enum CartItemOperationType {
+    ADD,
+    UPDATE,
+    DELETE
+}
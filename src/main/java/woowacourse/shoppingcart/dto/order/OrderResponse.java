@@ -6,6 +6,7 @@ import com.fasterxml.jackson.annotation.JsonTypeInfo.Id;
 import com.fasterxml.jackson.annotation.JsonTypeName;
 import java.util.List;
 import java.util.stream.Collectors;
+import woowacourse.shoppingcart.domain.Order;
 import woowacourse.shoppingcart.domain.OrderDetail;
 
 @JsonTypeName("order")
@@ -25,6 +26,10 @@ public class OrderResponse {
                 .collect(Collectors.toList());
     }
 
+    public static OrderResponse from(final Order order) {
+        return new OrderResponse(order.getId(), order.getOrderDetails());
+    }
+
     public long getId() {
         return id;
     }
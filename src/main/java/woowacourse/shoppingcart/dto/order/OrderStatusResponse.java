@@ -0,0 +1,37 @@
+package woowacourse.shoppingcart.dto.order;
+
+import woowacourse.shoppingcart.domain.OrderProgress;
+import woowacourse.shoppingcart.domain.OrderStatus;
+
+public class OrderStatusResponse {
+
+    private long id;
+    private OrderStatus status;
+    private String failureReason;
+
+    private OrderStatusResponse() {
+    }
+
+    public OrderStatusResponse(final long id, final OrderStatus status, final String failureReason) {
+        this.id = id;
+        this.status = status;
+        this.failureReason = failureReason;
+    }
+
+    public static OrderStatusResponse from(final OrderProgress orderProgress) {
+        return new OrderStatusResponse(orderProgress.getId(), orderProgress.getStatus(),
+                orderProgress.getFailureReason());
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public OrderStatus getStatus() {
+        return status;
+    }
+
+    public String getFailureReason() {
+        return failureReason;
+    }
+}
@@ -0,0 +1,25 @@
+package woowacourse.shoppingcart.dto.order;
+
+import java.util.List;
+
+public class OrderSummariesResponse {
+
+    private List<OrderSummaryResponse> orders;
+    private Long nextCursor;
+
+    private OrderSummariesResponse() {
+    }
+
+    public OrderSummariesResponse(final List<OrderSummaryResponse> orders, final Long nextCursor) {
+        this.orders = orders;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<OrderSummaryResponse> getOrders() {
+        return orders;
+    }
+
+    public Long getNextCursor() {
+        return nextCursor;
+    }
+}
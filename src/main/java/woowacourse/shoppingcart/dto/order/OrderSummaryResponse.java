@@ -0,0 +1,36 @@
+package woowacourse.shoppingcart.dto.order;
+
+import woowacourse.shoppingcart.domain.OrderSummary;
+
+public class OrderSummaryResponse {
+
+    private long id;
+    private long totalPrice;
+    private int itemCount;
+
+    private OrderSummaryResponse() {
+    }
+
+    public OrderSummaryResponse(final long id, final long totalPrice, final int itemCount) {
+        this.id = id;
+        this.totalPrice = totalPrice;
+        this.itemCount = itemCount;
+    }
+
+    public static OrderSummaryResponse from(final OrderSummary orderSummary) {
+        return new OrderSummaryResponse(orderSummary.getId(), orderSummary.getTotalPrice(),
+                orderSummary.getItemCount());
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public long getTotalPrice() {
+        return totalPrice;
+    }
+
+    public int getItemCount() {
+        return itemCount;
+    }
+}
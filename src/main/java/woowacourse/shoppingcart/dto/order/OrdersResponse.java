@@ -6,20 +6,26 @@ import java.util.stream.Collectors;
 public class OrdersResponse {
 
     private List<OrderInnerResponse> orders;
+    private Long nextCursor;
 
     private OrdersResponse() {
     }
 
-    public OrdersResponse(List<OrderResponse> orderResponse) {
+    public OrdersResponse(List<OrderResponse> orderResponse, Long nextCursor) {
         this.orders = orderResponse.stream()
                 .map(OrderInnerResponse::new)
                 .collect(Collectors.toList());
+        this.nextCursor = nextCursor;
     }
 
     public List<OrderInnerResponse> getOrders() {
         return orders;
     }
 
+    public Long getNextCursor() {
+        return nextCursor;
+    }
+
     public static class OrderInnerResponse {
 
         private long id;
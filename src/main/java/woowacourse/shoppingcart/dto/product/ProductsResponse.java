@@ -7,20 +7,26 @@ import woowacourse.shoppingcart.domain.product.Product;
 public class ProductsResponse {
 
     private List<ProductsInnerResponse> products;
+    private Long nextCursor;
 
     private ProductsResponse(){
     }
 
-    public ProductsResponse(List<Product> products) {
+    public ProductsResponse(List<Product> products, Long nextCursor) {
         this.products = products.stream()
                 .map(ProductsInnerResponse::new)
                 .collect(Collectors.toList());
+        this.nextCursor = nextCursor;
     }
 
     public List<ProductsInnerResponse> getProducts() {
         return products;
     }
 
+    public Long getNextCursor() {
+        return nextCursor;
+    }
+
     public static class ProductsInnerResponse {
 
         private long id;
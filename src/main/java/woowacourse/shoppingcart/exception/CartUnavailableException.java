@@ -0,0 +1,11 @@
+package woowacourse.shoppingcart.exception;
+
+public class CartUnavailableException extends RuntimeException {
+    public CartUnavailableException() {
+        this("장바구니 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+    }
+
+    public CartUnavailableException(final String msg) {
+        super(msg);
+    }
+}
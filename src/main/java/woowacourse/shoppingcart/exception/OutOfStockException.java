@@ -0,0 +1,17 @@
+package woowacourse.shoppingcart.exception;
+
+import java.util.List;
+
+public class OutOfStockException extends RuntimeException {
+
+    private final List<String> messages;
+
+    public OutOfStockException(final List<String> messages) {
+        super(String.join(" ", messages));
+        this.messages = messages;
+    }
+
+    public List<String> getMessages() {
+        return messages;
+    }
+}
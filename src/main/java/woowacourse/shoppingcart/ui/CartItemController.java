@@ -2,6 +2,7 @@ package woowacourse.shoppingcart.ui;
 
 import java.net.URI;
 import javax.validation.Valid;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -12,50 +13,89 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import woowacourse.auth.support.AuthenticationPrincipal;
+import woowacourse.shoppingcart.application.CartBulkService;
+import woowacourse.shoppingcart.application.CartGroupCommitter;
 import woowacourse.shoppingcart.application.CartService;
 import woowacourse.shoppingcart.domain.CartItem;
 import woowacourse.shoppingcart.dto.cartItem.CartItemAddRequest;
+import woowacourse.shoppingcart.dto.cartItem.CartItemBulkRequest;
+import woowacourse.shoppingcart.dto.cartItem.CartItemBulkResponse;
+import woowacourse.shoppingcart.dto.cartItem.CartItemInnerResponse;
 import woowacourse.shoppingcart.dto.cartItem.CartItemResponse;
-import woowacourse.shoppingcart.dto.cartItem.CartItemsResponse;
 
 @RestController
 @RequestMapping("/api/cartItems")
 public class CartItemController {
     private final CartService cartService;
+    private final CartBulkService cartBulkService;
+    private final CartGroupCommitter cartGroupCommitter;
+    private final JsonStreamingResponses jsonStreamingResponses;
 
-    public CartItemController(final CartService cartService) {
+    public CartItemController(final CartService cartService, final CartBulkService cartBulkService,
+                              final CartGroupCommitter cartGroupCommitter,
+                              final JsonStreamingResponses jsonStreamingResponses) {
         this.cartService = cartService;
+        this.cartBulkService = cartBulkService;
+        this.cartGroupCommitter = cartGroupCommitter;
+        this.jsonStreamingResponses = jsonStreamingResponses;
     }
 
     @GetMapping
-    public ResponseEntity<CartItemsResponse> getCartItems(@AuthenticationPrincipal String username) {
-        return ResponseEntity.ok().body(cartService.findAllByCustomerName(username));
+    public ResponseEntity<StreamingResponseBody> getCartItems(@AuthenticationPrincipal String username) {
+        final Long customerId = cartService.findCustomerId(username);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(jsonStreamingResponses.list("cartItems",
+                        consumer -> cartService.forEachByCustomerId(customerId, consumer),
+                        CartItemInnerResponse::new));
     }
 
     @PostMapping
     public ResponseEntity<CartItemResponse> addCartItem(@Valid @RequestBody final CartItemAddRequest request,
                                                         @AuthenticationPrincipal String username) {
-        final Long cartItemId = cartService.add(username, request);
+        final CartItem cartItem = addCartItem(username, request);
         final URI responseLocation = ServletUriComponentsBuilder
                 .fromCurrentRequest()
                 .path("/{cartItemId}")
-                .buildAndExpand(cartItemId)
+                .buildAndExpand(cartItem.getId())
                 .toUri();
-        final CartItem cartItem = cartService.findById(cartItemId);
         return ResponseEntity.created(responseLocation).body(CartItemResponse.from(cartItem));
     }
 
+    private CartItem addCartItem(final String username, final CartItemAddRequest request) {
+        if (cartGroupCommitter.isEnabled()) {
+            return cartGroupCommitter.add(username, request);
+        }
+        return cartService.add(username, request);
+    }
+
+    @PostMapping("/bulk")
+    public ResponseEntity<CartItemBulkResponse> applyCartItems(@Valid @RequestBody final CartItemBulkRequest request,
+                                                               @AuthenticationPrincipal String username) {
+        return ResponseEntity.ok(cartBulkService.apply(username, request));
+    }
+
     @PatchMapping("/{cartItemId}")
-    public ResponseEntity<Void> updateCartItem(@PathVariable final Long cartItemId, @RequestParam final int quantity) {
-        cartService.updateQuantity(cartItemId, quantity);
+    public ResponseEntity<Void> updateCartItem(@PathVariable final Long cartItemId, @RequestParam final int quantity,
+                                               @AuthenticationPrincipal String username) {
+        if (cartGroupCommitter.isEnabled()) {
+            cartGroupCommitter.updateQuantity(username, cartItemId, quantity);
+            return ResponseEntity.ok().build();
+        }
+        cartService.updateQuantity(username, cartItemId, quantity);
         return ResponseEntity.ok().build();
     }
 
     @DeleteMapping("/{cartItemId}")
     public ResponseEntity<Void> deleteCartItem(@PathVariable final Long cartItemId,
                                                @AuthenticationPrincipal String username) {
+        if (cartGroupCommitter.isEnabled()) {
+            cartGroupCommitter.deleteOneById(username, cartItemId);
+            return ResponseEntity.noContent().build();
+        }
         cartService.deleteOneById(username, cartItemId);
         return ResponseEntity.noContent().build();
     }
@@ -11,11 +11,14 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import woowacourse.auth.exception.InvalidAuthException;
 import woowacourse.shoppingcart.dto.ErrorResponse;
+import woowacourse.shoppingcart.exception.CartUnavailableException;
+import woowacourse.shoppingcart.exception.CheckoutUnavailableException;
 import woowacourse.shoppingcart.exception.InvalidCartItemException;
 import woowacourse.shoppingcart.exception.InvalidCustomerException;
 import woowacourse.shoppingcart.exception.InvalidOrderException;
 import woowacourse.shoppingcart.exception.InvalidProductException;
 import woowacourse.shoppingcart.exception.NotInCustomerCartItemException;
+import woowacourse.shoppingcart.exception.OutOfStockException;
 
 @RestControllerAdvice
 public class ControllerAdvice {
@@ -45,6 +48,19 @@ public class ControllerAdvice {
         return ResponseEntity.badRequest().body(ErrorResponse.from(e));
     }
 
+    @ExceptionHandler({OutOfStockException.class})
+    public ResponseEntity<ErrorResponse> handleOutOfStock(final OutOfStockException e) {
+        return ResponseEntity.badRequest().body(new ErrorResponse(e.getMessages()));
+    }
+
+    @ExceptionHandler({
+            CheckoutUnavailableException.class,
+            CartUnavailableException.class,
+    })
+    public ResponseEntity<ErrorResponse> handleUnavailable(final RuntimeException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(ErrorResponse.from(e));
+    }
+
     @ExceptionHandler({InvalidAuthException.class})
     public ResponseEntity<ErrorResponse> handleInvalidAuthAccess(final RuntimeException e) {
         return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(ErrorResponse.from(e));
@@ -0,0 +1,51 @@
+package woowacourse.shoppingcart.ui;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@Component
+public class JsonStreamingResponses {
+
+    private final ObjectMapper objectMapper;
+
+    public JsonStreamingResponses(final ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    public <T> StreamingResponseBody list(final String fieldName, final ListSource<T> source,
+                                          final Function<T, ?> rowMapper) {
+        return outputStream -> {
+            final JsonGenerator generator = objectMapper.createGenerator(outputStream)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.writeStartObject();
+            generator.writeArrayFieldStart(fieldName);
+            try {
+                source.forEach(row -> writeRow(generator, rowMapper.apply(row)));
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+            generator.close();
+        };
+    }
+
+    private void writeRow(final JsonGenerator generator, final Object row) {
+        try {
+            generator.writeObject(row);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @FunctionalInterface
+    public interface ListSource<T> {
+        void forEach(Consumer<T> consumer);
+    }
+}
@@ -1,38 +1,88 @@
 package woowacourse.shoppingcart.ui;
 
 import java.net.URI;
+import java.util.Arrays;
 import java.util.List;
 import javax.validation.Valid;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import woowacourse.auth.support.AuthenticationPrincipal;
+import woowacourse.shoppingcart.application.CheckoutQueue;
 import woowacourse.shoppingcart.application.OrderService;
+import woowacourse.shoppingcart.domain.OrderStatus;
 import woowacourse.shoppingcart.dto.OrderRequest;
 import woowacourse.shoppingcart.dto.order.OrderResponse;
+import woowacourse.shoppingcart.dto.order.OrderStatusResponse;
+import woowacourse.shoppingcart.dto.order.OrderSummariesResponse;
 import woowacourse.shoppingcart.dto.order.OrdersResponse;
 
 @Validated
 @RestController
 @RequestMapping("/api/orders")
 public class OrderController {
+    private static final String DEFAULT_PAGE_SIZE = "20";
+    private static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+    private static final String PREFER = "Prefer";
+    private static final String PREFERENCE_APPLIED = "Preference-Applied";
+    private static final String RESPOND_ASYNC = "respond-async";
+    private static final long MAX_PAGE_SIZE = 100;
+
     private final OrderService orderService;
+    private final CheckoutQueue checkoutQueue;
 
-    public OrderController(final OrderService orderService) {
+    public OrderController(final OrderService orderService, final CheckoutQueue checkoutQueue) {
         this.orderService = orderService;
+        this.checkoutQueue = checkoutQueue;
     }
 
     @PostMapping
-    public ResponseEntity<Void> addOrder(@Valid @RequestBody final List<OrderRequest> orderDetails,
-                                         @AuthenticationPrincipal String username) {
-        final Long orderId = orderService.save(orderDetails, username);
+    public ResponseEntity<?> addOrder(@Valid @RequestBody final List<OrderRequest> orderDetails,
+                                      @AuthenticationPrincipal String username,
+                                      @RequestHeader(value = IDEMPOTENCY_KEY, required = false)
+                                      final String idempotencyKey,
+                                      @RequestHeader(value = PREFER, required = false) final String prefer) {
+        if (checkoutQueue.isEnabled() && prefersAsync(prefer)) {
+            final OrderStatusResponse order = checkoutQueue.accept(orderDetails, username, idempotencyKey);
+            return accepted(order)
+                    .header(PREFERENCE_APPLIED, RESPOND_ASYNC)
+                    .body(order);
+        }
+        final OrderStatusResponse order = orderService.save(orderDetails, username, idempotencyKey);
+        if (order.getStatus() == OrderStatus.PENDING) {
+            return accepted(order).body(order);
+        }
         return ResponseEntity.created(
-                URI.create("/api/orders/" + orderId)).build();
+                URI.create("/api/orders/" + order.getId())).build();
+    }
+
+    private ResponseEntity.BodyBuilder accepted(final OrderStatusResponse order) {
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/orders/" + order.getId() + "/status"));
+    }
+
+    private boolean prefersAsync(final String prefer) {
+        if (prefer == null) {
+            return false;
+        }
+        return Arrays.stream(prefer.split(","))
+                .map(String::trim)
+                .anyMatch(RESPOND_ASYNC::equalsIgnoreCase);
+    }
+
+    @GetMapping("/{orderId}/status")
+    public ResponseEntity<OrderStatusResponse> findOrderStatus(@PathVariable final Long orderId,
+                                                               @AuthenticationPrincipal String username) {
+        return ResponseEntity.ok(orderService.findStatus(username, orderId));
     }
 
     @GetMapping("/{orderId}")
@@ -40,8 +90,19 @@ public class OrderController {
         return ResponseEntity.ok(orderService.findOrderById(username, orderId));
     }
 
+    @GetMapping("/summaries")
+    public ResponseEntity<OrderSummariesResponse> findOrderSummaries(@AuthenticationPrincipal String username,
+                                                                     @RequestParam(required = false) final Long cursor,
+                                                                     @RequestParam(defaultValue = DEFAULT_PAGE_SIZE)
+                                                                     @Min(1) @Max(MAX_PAGE_SIZE) final int size) {
+        return ResponseEntity.ok(orderService.findOrderSummariesByCustomerName(username, cursor, size));
+    }
+
     @GetMapping
-    public ResponseEntity<OrdersResponse> findOrders(@AuthenticationPrincipal String username) {
-        return ResponseEntity.ok(orderService.findOrdersByCustomerName(username));
+    public ResponseEntity<OrdersResponse> findOrders(@AuthenticationPrincipal String username,
+                                                     @RequestParam(required = false) final Long cursor,
+                                                     @RequestParam(defaultValue = DEFAULT_PAGE_SIZE)
+                                                     @Min(1) @Max(MAX_PAGE_SIZE) final int size) {
+        return ResponseEntity.ok(orderService.findOrdersByCustomerName(username, cursor, size));
     }
 }
\ No newline at end of file
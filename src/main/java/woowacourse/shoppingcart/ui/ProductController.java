@@ -1,34 +1,66 @@
 package woowacourse.shoppingcart.ui;
 
 import java.net.URI;
+import java.util.Arrays;
 import javax.validation.Valid;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import woowacourse.shoppingcart.application.CatalogVersion;
 import woowacourse.shoppingcart.application.ProductService;
+import woowacourse.shoppingcart.domain.product.ProductSearchCondition;
 import woowacourse.shoppingcart.dto.product.ProductAddRequest;
 import woowacourse.shoppingcart.dto.product.ProductResponse;
 import woowacourse.shoppingcart.dto.product.ProductsResponse;
 
+@Validated
 @RestController
 @RequestMapping("/api/products")
 public class ProductController {
 
+    private static final String DEFAULT_PAGE_SIZE = "20";
+    private static final long MAX_PAGE_SIZE = 100;
+
     private final ProductService productService;
+    private final CatalogVersion catalogVersion;
 
-    public ProductController(final ProductService productService) {
+    public ProductController(final ProductService productService, final CatalogVersion catalogVersion) {
         this.productService = productService;
+        this.catalogVersion = catalogVersion;
     }
 
     @GetMapping
-    public ResponseEntity<ProductsResponse> findAll() {
-        return ResponseEntity.ok(productService.findAll());
+    public ResponseEntity<ProductsResponse> findAll(@RequestParam(required = false) final Long cursor,
+                                                    @RequestParam(defaultValue = DEFAULT_PAGE_SIZE)
+                                                    @Min(1) @Max(MAX_PAGE_SIZE) final int size,
+                                                    @RequestParam(required = false) final Integer minPrice,
+                                                    @RequestParam(required = false) final Integer maxPrice,
+                                                    @RequestParam(defaultValue = "false") final boolean inStock,
+                                                    final WebRequest webRequest) {
+        final ProductSearchCondition condition = new ProductSearchCondition(minPrice, maxPrice, inStock);
+        final String eTag = catalogETag();
+        if (isNotModified(webRequest, eTag)) {
+            return notModified(eTag);
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .eTag(eTag)
+                .lastModified(catalogVersion.lastModified())
+                .body(productService.findAll(cursor, size, condition));
     }
 
     @PostMapping
@@ -42,8 +74,16 @@ public class ProductController {
     }
 
     @GetMapping("/{productId}")
-    public ResponseEntity<ProductResponse> findOne(@PathVariable final Long productId) {
-        return ResponseEntity.ok(productService.findById(productId));
+    public ResponseEntity<ProductResponse> findOne(@PathVariable final Long productId, final WebRequest webRequest) {
+        final String eTag = catalogETag();
+        if (isNotModified(webRequest, eTag)) {
+            return notModified(eTag);
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .eTag(eTag)
+                .lastModified(catalogVersion.lastModified())
+                .body(productService.findById(productId));
     }
 
     @DeleteMapping("/{productId}")
@@ -51,4 +91,28 @@ public class ProductController {
         productService.deleteById(productId);
         return ResponseEntity.noContent().build();
     }
+
+    private String catalogETag() {
+        return "\"" + catalogVersion.current() + "\"";
+    }
+
+    private boolean isNotModified(final WebRequest webRequest, final String eTag) {
+        final String[] ifNoneMatch = webRequest.getHeaderValues(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        return Arrays.stream(ifNoneMatch)
+                .flatMap(value -> Arrays.stream(value.split(",")))
+                .map(String::trim)
+                .map(tag -> tag.startsWith("W/") ? tag.substring(2) : tag)
+                .anyMatch(tag -> tag.equals(eTag) || tag.equals("*"));
+    }
+
+    private <T> ResponseEntity<T> notModified(final String eTag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .cacheControl(CacheControl.noCache())
+                .eTag(eTag)
+                .lastModified(catalogVersion.lastModified())
+                .build();
+    }
 }
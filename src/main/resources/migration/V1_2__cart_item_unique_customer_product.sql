@@ -0,0 +1,17 @@
+update cart_item c
+    inner join (select customer_id, product_id, min(id) as id, sum(quantity) as quantity
+                from cart_item
+                group by customer_id, product_id
+                having count(*) > 1) d on c.id = d.id
+set c.quantity = d.quantity;
+
+delete c
+from cart_item c
+         inner join (select customer_id, product_id, min(id) as id
+                     from cart_item
+                     group by customer_id, product_id) d
+                    on c.customer_id = d.customer_id and c.product_id = d.product_id
+where c.id > d.id;
+
+alter table cart_item
+    add constraint uk_cart_item_customer_product unique (customer_id, product_id);
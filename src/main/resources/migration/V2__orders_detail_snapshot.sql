@@ -0,0 +1,15 @@
+alter table orders_detail
+    add column price integer,
+    add column name varchar(255),
+    add column image_url varchar(255);
+
+update orders_detail d
+    inner join product p on d.product_id = p.id
+set d.price     = p.price,
+    d.name      = p.name,
+    d.image_url = p.image_url
+where d.price is null;
+
+alter table orders_detail
+    modify column price integer not null,
+    modify column name varchar(255) not null;
@@ -0,0 +1,21 @@
+create table order_idempotency
+(
+    id              bigint       not null auto_increment,
+    customer_id     bigint       not null,
+    idempotency_key varchar(255) not null,
+    request_hash    varchar(64)  not null,
+    orders_id       bigint,
+    primary key (id)
+) engine = InnoDB
+  default charset = utf8mb4;
+
+alter table order_idempotency
+    add constraint uk_order_idempotency_customer_key unique (customer_id, idempotency_key);
+
+alter table order_idempotency
+    add constraint fk_order_idempotency_to_customer
+        foreign key (customer_id) references customer (id);
+
+alter table order_idempotency
+    add constraint fk_order_idempotency_to_orders
+        foreign key (orders_id) references orders (id);
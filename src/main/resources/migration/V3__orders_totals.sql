@@ -0,0 +1,14 @@
+alter table orders
+    add column total_price bigint  not null default 0,
+    add column item_count  integer not null default 0;
+
+update orders o
+    inner join (select orders_id, sum(price * quantity) as total_price, count(*) as item_count
+                from orders_detail
+                group by orders_id) d on d.orders_id = o.id
+set o.total_price = d.total_price,
+    o.item_count  = d.item_count;
+
+alter table orders
+    alter column total_price drop default,
+    alter column item_count drop default;
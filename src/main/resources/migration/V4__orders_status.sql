@@ -0,0 +1,6 @@
+alter table orders
+    add column status         varchar(20)  not null default 'COMPLETED',
+    add column failure_reason varchar(255);
+
+alter table orders
+    alter column status drop default;
@@ -1,3 +1,5 @@
+drop table if exists order_idempotency;
+
 drop table if exists orders_detail;
 
 drop table if exists orders;
@@ -12,7 +14,7 @@ create table customer
 (
     id           bigint       not null auto_increment,
     username     varchar(255) not null,
-    password     varchar(64)  not null,
+    password     varchar(255) not null,
     phone_number varchar(11)  not null,
     address      varchar(255) not null,
     primary key (id)
@@ -43,6 +45,9 @@ create table cart_item
 ) engine = InnoDB
   default charset = utf8mb4;
 
+alter table cart_item
+    add constraint uk_cart_item_customer_product unique (customer_id, product_id);
+
 alter table cart_item
     add constraint fk_cart_item_to_customer
         foreign key (customer_id) references customer (id);
@@ -53,26 +58,37 @@ alter table cart_item
 
 create table orders
 (
-    id          bigint not null auto_increment,
-    customer_id bigint not null,
+    id             bigint       not null auto_increment,
+    customer_id    bigint       not null,
+    total_price    bigint       not null,
+    item_count     integer      not null,
+    status         varchar(20)  not null,
+    failure_reason varchar(255),
     primary key (id)
 ) engine = InnoDB
   default charset = utf8mb4;
 
+create index ix_orders_customer on orders (customer_id, id);
+
 alter table orders
     add constraint fk_orders_to_customer
         foreign key (customer_id) references customer (id);
 
 create table orders_detail
 (
-    id         bigint  not null auto_increment,
-    orders_id  bigint  not null,
-    product_id bigint  not null,
-    quantity   integer not null,
+    id         bigint       not null auto_increment,
+    orders_id  bigint       not null,
+    product_id bigint       not null,
+    quantity   integer      not null,
+    price      integer      not null,
+    name       varchar(255) not null,
+    image_url  varchar(255),
     primary key (id)
 ) engine = InnoDB
   default charset = utf8mb4;
 
+create index ix_orders_detail_orders on orders_detail (orders_id, product_id, quantity);
+
 alter table orders_detail
     add constraint fk_orders_detail_to_orders
         foreign key (orders_id) references orders (id);
@@ -80,3 +96,25 @@ alter table orders_detail
 alter table orders_detail
     add constraint fk_orders_detail_to_product
         foreign key (product_id) references product (id);
+
+create table order_idempotency
+(
+    id              bigint       not null auto_increment,
+    customer_id     bigint       not null,
+    idempotency_key varchar(255) not null,
+    request_hash    varchar(64)  not null,
+    orders_id       bigint,
+    primary key (id)
+) engine = InnoDB
+  default charset = utf8mb4;
+
+alter table order_idempotency
+    add constraint uk_order_idempotency_customer_key unique (customer_id, idempotency_key);
+
+alter table order_idempotency
+    add constraint fk_order_idempotency_to_customer
+        foreign key (customer_id) references customer (id);
+
+alter table order_idempotency
+    add constraint fk_order_idempotency_to_orders
+        foreign key (orders_id) references orders (id);
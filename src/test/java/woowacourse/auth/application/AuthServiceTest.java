@@ -8,12 +8,20 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.Sql.ExecutionPhase;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import woowacourse.auth.dto.PasswordRequest;
 import woowacourse.auth.dto.TokenRequest;
 import woowacourse.auth.dto.TokenResponse;
 import woowacourse.auth.exception.InvalidAuthException;
+import woowacourse.shoppingcart.application.CustomerService;
+import woowacourse.shoppingcart.config.CacheConfig;
 import woowacourse.shoppingcart.dao.CustomerDao;
 import woowacourse.shoppingcart.domain.customer.Customer;
 
@@ -27,6 +35,15 @@ class AuthServiceTest {
     @Autowired
     private AuthService authService;
 
+    @Autowired
+    private CustomerService customerService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Value("${security.password.pbkdf2.iterations}")
+    private int iterations;
+
     private Customer customer;
 
     @BeforeEach
@@ -64,6 +81,22 @@ class AuthServiceTest {
         assertThat(tokenResponse).isNotNull();
     }
 
+    @Test
+    @DisplayName("이전 방식으로 암호화 된 패스워드는 로그인 성공 시 설정한 반복 횟수로 재암호화")
+    void login_rehashLegacyPassword() {
+        // given
+        customerDao.save(customer);
+
+        // when
+        authService.login(new TokenRequest("username", "password123"));
+
+        // then
+        String rehashedPassword = customerDao.findByUsername("username").getPassword();
+        assertThat(rehashedPassword).startsWith("pbkdf2$" + iterations + "$");
+        assertThat(iterations).isEqualTo(1_000);
+        assertDoesNotThrow(() -> authService.login(new TokenRequest("username", "password123")));
+    }
+
     @Test
     @DisplayName("패스워드 확인 시 다른 경우 예외 발생")
     void mismatchPassword_throwException() {
@@ -86,4 +119,22 @@ class AuthServiceTest {
         assertDoesNotThrow(() -> authService.checkPassword(customer.getUsername(), new PasswordRequest("password123")));
     }
 
+    @Test
+    @DisplayName("로그인 시 회원 id를 캐시하고, 탈퇴 시 캐시에서 제거한다")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @Sql(scripts = {"classpath:schema.sql", "classpath:data.sql"}, executionPhase = ExecutionPhase.AFTER_TEST_METHOD)
+    void login_cachesCustomerId() {
+        // given
+        Long customerId = customerDao.save(customer);
+        Cache customerIds = cacheManager.getCache(CacheConfig.CUSTOMER_IDS);
+
+        // when
+        authService.login(new TokenRequest("username", "password123"));
+
+        // then
+        assertThat(customerIds.get("username", Long.class)).isEqualTo(customerId);
+
+        customerService.deleteByUsername("username");
+        assertThat(customerIds.get("username")).isNull();
+    }
 }
@@ -2,12 +2,17 @@ package woowacourse.auth.support;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 class EncryptionTest {
 
-    private Encryption encryption = new Encryption();
+    private static final String LEGACY_ENCRYPTED_PASSWORD =
+            "ef92b778bafe771e89245b89ecbc08a44a4e166c06659911881f383d4473e94f";
+
+    private Encryption encryption =
+            new Encryption(new Pbkdf2PasswordHasher(1_000), List.of(new Sha256PasswordHasher()));
 
     @DisplayName("암호화 된 문장이 원본과 일치하면 true를 반환한다.")
     @Test
@@ -26,4 +31,27 @@ class EncryptionTest {
 
         assertThat(encryption.isSame(encryptedText, "123password")).isFalse();
     }
+
+    @DisplayName("이전 방식으로 암호화 된 문장도 원본과 비교할 수 있다.")
+    @Test
+    void isSame_legacy() {
+        assertThat(encryption.isSame(LEGACY_ENCRYPTED_PASSWORD, "password123")).isTrue();
+        assertThat(encryption.isSame(LEGACY_ENCRYPTED_PASSWORD, "123password")).isFalse();
+    }
+
+    @DisplayName("같은 문장도 암호화 할 때마다 다른 솔트를 사용한다.")
+    @Test
+    void encrypt_salted() {
+        assertThat(encryption.encrypt("password123")).isNotEqualTo(encryption.encrypt("password123"));
+    }
+
+    @DisplayName("이전 방식이나 다른 반복 횟수로 암호화 된 문장은 재암호화가 필요하다.")
+    @Test
+    void needsRehash() {
+        String otherIterations = new Pbkdf2PasswordHasher(2_000).hash("password123");
+
+        assertThat(encryption.needsRehash(LEGACY_ENCRYPTED_PASSWORD)).isTrue();
+        assertThat(encryption.needsRehash(otherIterations)).isTrue();
+        assertThat(encryption.needsRehash(encryption.encrypt("password123"))).isFalse();
+    }
 }
@@ -0,0 +1,56 @@
+package woowacourse.auth.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Instant;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import woowacourse.auth.exception.InvalidAuthException;
+
+class JwtTokenProviderTest {
+
+    private static final String SECRET_KEY = "jwp-shopping-cart-test-secret-key-for-hmac-sha256";
+
+    private final JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(SECRET_KEY, 3_600_000);
+
+    @DisplayName("토큰을 한 번 검증하고 subject와 만료 시각을 함께 반환한다.")
+    @Test
+    void verify() {
+        String token = jwtTokenProvider.createToken("username");
+
+        VerifiedToken verifiedToken = jwtTokenProvider.verify(token);
+
+        assertThat(verifiedToken.getSubject()).isEqualTo("username");
+        assertThat(verifiedToken.getExpiration()).isAfter(Instant.now());
+    }
+
+    @DisplayName("만료된 토큰을 검증하면 예외가 발생한다.")
+    @Test
+    void verify_expired() {
+        JwtTokenProvider expiredTokenProvider = new JwtTokenProvider(SECRET_KEY, -1_000);
+        String token = expiredTokenProvider.createToken("username");
+
+        assertThatThrownBy(() -> jwtTokenProvider.verify(token))
+                .isInstanceOf(InvalidAuthException.class)
+                .hasMessage("인증되지 않은 토큰입니다.");
+    }
+
+    @DisplayName("다른 키로 서명된 토큰을 검증하면 예외가 발생한다.")
+    @Test
+    void verify_invalidSignature() {
+        JwtTokenProvider otherTokenProvider =
+                new JwtTokenProvider("other-jwp-shopping-cart-secret-key-for-hmac-sha256", 3_600_000);
+        String token = otherTokenProvider.createToken("username");
+
+        assertThatThrownBy(() -> jwtTokenProvider.verify(token))
+                .isInstanceOf(InvalidAuthException.class);
+    }
+
+    @DisplayName("토큰이 없으면 예외가 발생한다.")
+    @Test
+    void verify_null() {
+        assertThatThrownBy(() -> jwtTokenProvider.verify(null))
+                .isInstanceOf(InvalidAuthException.class);
+    }
+}
@@ -0,0 +1,18 @@
+package woowacourse.auth.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class Sha256PasswordHasherTest {
+
+    private final Sha256PasswordHasher passwordHasher = new Sha256PasswordHasher();
+
+    @DisplayName("SHA-256 해시를 소문자 16진수 문자열로 반환한다.")
+    @Test
+    void hash() {
+        assertThat(passwordHasher.hash("password123"))
+                .isEqualTo("ef92b778bafe771e89245b89ecbc08a44a4e166c06659911881f383d4473e94f");
+    }
+}
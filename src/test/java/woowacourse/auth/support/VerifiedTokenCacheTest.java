@@ -0,0 +1,67 @@
+package woowacourse.auth.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import woowacourse.auth.exception.InvalidAuthException;
+
+class VerifiedTokenCacheTest {
+
+    private static final String SECRET_KEY = "jwp-shopping-cart-test-secret-key-for-hmac-sha256";
+
+    private final CountingJwtTokenProvider jwtTokenProvider = new CountingJwtTokenProvider(3_600_000);
+
+    @DisplayName("같은 토큰은 한 번만 검증한다.")
+    @Test
+    void verify_cached() {
+        VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache(jwtTokenProvider, true, 100);
+        String token = jwtTokenProvider.createToken("username");
+
+        verifiedTokenCache.verify(token);
+        VerifiedToken verifiedToken = verifiedTokenCache.verify(token);
+
+        assertThat(verifiedToken.getSubject()).isEqualTo("username");
+        assertThat(jwtTokenProvider.verifyCount.get()).isEqualTo(1);
+    }
+
+    @DisplayName("캐시를 끄면 매번 토큰을 검증한다.")
+    @Test
+    void verify_disabled() {
+        VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache(jwtTokenProvider, false, 100);
+        String token = jwtTokenProvider.createToken("username");
+
+        verifiedTokenCache.verify(token);
+        verifiedTokenCache.verify(token);
+
+        assertThat(jwtTokenProvider.verifyCount.get()).isEqualTo(2);
+    }
+
+    @DisplayName("검증에 실패한 토큰은 캐시하지 않는다.")
+    @Test
+    void verify_invalidNotCached() {
+        VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache(jwtTokenProvider, true, 100);
+        String token = new CountingJwtTokenProvider(-1_000).createToken("username");
+
+        assertThatThrownBy(() -> verifiedTokenCache.verify(token)).isInstanceOf(InvalidAuthException.class);
+        assertThatThrownBy(() -> verifiedTokenCache.verify(token)).isInstanceOf(InvalidAuthException.class);
+        assertThat(jwtTokenProvider.verifyCount.get()).isEqualTo(2);
+    }
+
+    private static class CountingJwtTokenProvider extends JwtTokenProvider {
+
+        private final AtomicInteger verifyCount = new AtomicInteger();
+
+        CountingJwtTokenProvider(final long validityInMilliseconds) {
+            super(SECRET_KEY, validityInMilliseconds);
+        }
+
+        @Override
+        public VerifiedToken verify(final String token) {
+            verifyCount.incrementAndGet();
+            return super.verify(token);
+        }
+    }
+}
@@ -2,8 +2,10 @@ package woowacourse.shoppingcart.acceptance;
 
 import io.restassured.RestAssured;
 import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.web.server.LocalServerPort;
+import org.springframework.cache.CacheManager;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.context.jdbc.Sql.ExecutionPhase;
 
@@ -13,8 +15,12 @@ public class AcceptanceTest {
     @LocalServerPort
     int port;
 
+    @Autowired
+    private CacheManager cacheManager;
+
     @BeforeEach
     public void setUp() {
         RestAssured.port = port;
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
     }
 }
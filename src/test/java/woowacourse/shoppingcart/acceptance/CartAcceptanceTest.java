@@ -15,7 +15,9 @@ import org.junit.jupiter.api.Test;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import woowacourse.shoppingcart.dto.cartItem.CartItemAddRequest;
-import woowacourse.shoppingcart.dto.cartItem.CartItemsResponse.CartItemInnerResponse;
+import woowacourse.shoppingcart.dto.cartItem.CartItemBulkRequest;
+import woowacourse.shoppingcart.dto.cartItem.CartItemBulkRequest.CartItemOperationRequest;
+import woowacourse.shoppingcart.dto.cartItem.CartItemInnerResponse;
 import woowacourse.shoppingcart.dto.product.ProductAddRequest;
 
 @DisplayName("장바구니 관련 기능")
@@ -77,6 +79,32 @@ public class CartAcceptanceTest extends AcceptanceTest {
         장바구니_삭제됨(response);
     }
 
+    @DisplayName("장바구니 아이템 일괄 변경")
+    @Test
+    void applyCartItems() {
+        Long cartItemId = 장바구니_아이템_추가되어_있음(new CartItemAddRequest(productId1, 1), token);
+
+        ExtractableResponse<Response> response = 장바구니_아이템_일괄_변경_요청(new CartItemBulkRequest(List.of(
+                CartItemOperationRequest.add(productId2, 2),
+                CartItemOperationRequest.update(cartItemId, 101),
+                CartItemOperationRequest.delete(999L))), token);
+
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.jsonPath().getList("results.success", Boolean.class)).containsExactly(true, false, false);
+        장바구니_아이템_목록_포함됨(장바구니_아이템_목록_조회_요청(token), productId1, productId2);
+    }
+
+    public static ExtractableResponse<Response> 장바구니_아이템_일괄_변경_요청(CartItemBulkRequest request, String token) {
+        return RestAssured
+                .given().log().all()
+                .header("Authorization", "Bearer " + token)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .body(request)
+                .when().post("/api/cartItems/bulk")
+                .then().log().all()
+                .extract();
+    }
+
     public static ExtractableResponse<Response> 장바구니_아이템_추가_요청(CartItemAddRequest request, String token) {
         return RestAssured
                 .given().log().all()
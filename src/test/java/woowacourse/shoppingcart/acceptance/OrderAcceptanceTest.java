@@ -14,6 +14,8 @@ import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import woowacourse.shoppingcart.dto.OrderRequest;
@@ -23,6 +25,7 @@ import woowacourse.shoppingcart.dto.order.OrdersResponse.OrderInnerResponse;
 import woowacourse.shoppingcart.dto.product.ProductAddRequest;
 
 @DisplayName("주문 관련 기능")
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT, properties = "shoppingcart.checkout.async.enabled=true")
 public class OrderAcceptanceTest extends AcceptanceTest {
     private static final String USER = "puterism";
     private String token;
@@ -57,6 +60,50 @@ public class OrderAcceptanceTest extends AcceptanceTest {
         주문하기_성공함(response);
     }
 
+    @DisplayName("같은 Idempotency-Key로 다시 주문하면 처음 주문의 Location을 응답한다")
+    @Test
+    void addOrder_idempotent() {
+        List<OrderRequest> orderRequests = List.of(new OrderRequest(cartItemId1));
+
+        ExtractableResponse<Response> response = 주문하기_요청(orderRequests, token, "order-key-1");
+        ExtractableResponse<Response> retryResponse = 주문하기_요청(orderRequests, token, "order-key-1");
+
+        주문하기_성공함(response);
+        주문하기_성공함(retryResponse);
+        assertThat(retryResponse.header("Location")).isEqualTo(response.header("Location"));
+    }
+
+    @DisplayName("비동기 처리를 요청하면 202로 대기 중인 주문을 응답하고, 상태 조회로 완료를 확인한다")
+    @Test
+    void addOrder_async() throws InterruptedException {
+        List<OrderRequest> orderRequests = List.of(new OrderRequest(cartItemId1));
+
+        ExtractableResponse<Response> response = 비동기_주문하기_요청(orderRequests, token);
+
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.ACCEPTED.value());
+        assertThat(response.header("Preference-Applied")).isEqualTo("respond-async");
+        assertThat(response.jsonPath().getString("status")).isIn("PENDING", "COMPLETED");
+        assertThat(주문_완료까지_상태_조회(response.header("Location"), token)).isEqualTo("COMPLETED");
+    }
+
+    @DisplayName("비동기 주문을 같은 Idempotency-Key로 다시 요청하면 같은 주문의 Location을 응답한다")
+    @Test
+    void addOrder_asyncThenSyncRetry() throws InterruptedException {
+        List<OrderRequest> orderRequests = List.of(new OrderRequest(cartItemId1));
+
+        ExtractableResponse<Response> response = 비동기_주문하기_요청(orderRequests, token, "order-key-2");
+        ExtractableResponse<Response> retryResponse = 주문하기_요청(orderRequests, token, "order-key-2");
+        String status = 주문_완료까지_상태_조회(response.header("Location"), token);
+        ExtractableResponse<Response> completedRetryResponse = 주문하기_요청(orderRequests, token, "order-key-2");
+
+        Long orderId = response.jsonPath().getLong("id");
+        assertThat(retryResponse.statusCode()).isIn(HttpStatus.ACCEPTED.value(), HttpStatus.CREATED.value());
+        assertThat(retryResponse.header("Location")).contains("/api/orders/" + orderId);
+        assertThat(status).isEqualTo("COMPLETED");
+        주문하기_성공함(completedRetryResponse);
+        assertThat(completedRetryResponse.header("Location")).endsWith("/api/orders/" + orderId);
+        주문_조회_응답됨(주문_단일_조회_요청(orderId, token));
+    }
 
     @DisplayName("주문 내역 조회")
     @Test
@@ -70,6 +117,19 @@ public class OrderAcceptanceTest extends AcceptanceTest {
         주문_내역_포함됨(response, orderId1, orderId2);
     }
 
+    @DisplayName("주문 내역 페이지 조회")
+    @Test
+    void getOrdersPage() {
+        Long orderId1 = 주문하기_요청_성공되어_있음(List.of(new OrderRequest(cartItemId1)), token);
+        Long orderId2 = 주문하기_요청_성공되어_있음(List.of(new OrderRequest(cartItemId2)), token);
+
+        ExtractableResponse<Response> response = 주문_내역_페이지_조회_요청(token, 1);
+
+        주문_조회_응답됨(response);
+        주문_내역_포함됨(response, orderId1);
+        assertThat(response.jsonPath().getLong("nextCursor")).isEqualTo(orderId1);
+    }
+
     @DisplayName("주문 단일 조회")
     @Test
     void getOrder() {
@@ -92,6 +152,60 @@ public class OrderAcceptanceTest extends AcceptanceTest {
                 .extract();
     }
 
+    public static ExtractableResponse<Response> 주문하기_요청(List<OrderRequest> request, String token,
+                                                       String idempotencyKey) {
+        return RestAssured
+                .given().log().all()
+                .header("Authorization", "Bearer " + token)
+                .header("Idempotency-Key", idempotencyKey)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .body(request)
+                .when().post("/api/orders")
+                .then().log().all()
+                .extract();
+    }
+
+    public static ExtractableResponse<Response> 비동기_주문하기_요청(List<OrderRequest> request, String token) {
+        return RestAssured
+                .given().log().all()
+                .header("Authorization", "Bearer " + token)
+                .header("Prefer", "respond-async")
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .body(request)
+                .when().post("/api/orders")
+                .then().log().all()
+                .extract();
+    }
+
+    public static ExtractableResponse<Response> 비동기_주문하기_요청(List<OrderRequest> request, String token,
+                                                          String idempotencyKey) {
+        return RestAssured
+                .given().log().all()
+                .header("Authorization", "Bearer " + token)
+                .header("Prefer", "respond-async")
+                .header("Idempotency-Key", idempotencyKey)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .body(request)
+                .when().post("/api/orders")
+                .then().log().all()
+                .extract();
+    }
+
+    public static String 주문_완료까지_상태_조회(String location, String token) throws InterruptedException {
+        String status = "PENDING";
+        for (int i = 0; i < 50 && status.equals("PENDING"); i++) {
+            Thread.sleep(100);
+            status = RestAssured
+                    .given().log().all()
+                    .header("Authorization", "Bearer " + token)
+                    .when().get(location)
+                    .then().log().all()
+                    .statusCode(HttpStatus.OK.value())
+                    .extract().jsonPath().getString("status");
+        }
+        return status;
+    }
+
     public static ExtractableResponse<Response> 주문_내역_조회_요청(String token) {
         return RestAssured
                 .given().log().all()
@@ -102,6 +216,17 @@ public class OrderAcceptanceTest extends AcceptanceTest {
                 .extract();
     }
 
+    public static ExtractableResponse<Response> 주문_내역_페이지_조회_요청(String token, int size) {
+        return RestAssured
+                .given().log().all()
+                .header("Authorization", "Bearer " + token)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .queryParam("size", size)
+                .when().get("/api/orders")
+                .then().log().all()
+                .extract();
+    }
+
     public static ExtractableResponse<Response> 주문_단일_조회_요청(Long orderId, String token) {
         return RestAssured
                 .given().log().all()
@@ -9,6 +9,7 @@ import java.util.List;
 import java.util.stream.Collectors;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import woowacourse.shoppingcart.dto.product.ProductAddRequest;
@@ -41,6 +42,34 @@ public class ProductAcceptanceTest extends AcceptanceTest {
         상품_목록_포함됨(productId1, productId2, response);
     }
 
+    @DisplayName("상품 목록을 페이지 단위로 조회한다")
+    @Test
+    void getProductsPage() {
+        Long productId1 = 상품_등록되어_있음(
+                new ProductAddRequest("치킨", 10_000, 100, "chicken.png"));
+        상품_등록되어_있음(new ProductAddRequest("맥주", 6_000, 100, "beer.png"));
+
+        ExtractableResponse<Response> response = 상품_목록_페이지_조회_요청(1);
+
+        조회_응답됨(response);
+        assertThat(response.jsonPath().getList("products.id", Long.class)).containsExactly(productId1);
+        assertThat(response.jsonPath().getLong("nextCursor")).isEqualTo(productId1);
+    }
+
+    @DisplayName("최소 가격이 최대 가격보다 크면 상품 목록 조회에 실패한다")
+    @Test
+    void getProducts_invalidPriceRange() {
+        ExtractableResponse<Response> response = RestAssured
+                .given().log().all()
+                .queryParam("minPrice", 2_000)
+                .queryParam("maxPrice", 1_000)
+                .when().get("/api/products")
+                .then().log().all()
+                .extract();
+
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+    }
+
     @DisplayName("상품을 조회한다")
     @Test
     void getProduct() {
@@ -64,6 +93,31 @@ public class ProductAcceptanceTest extends AcceptanceTest {
         상품_삭제됨(response);
     }
 
+    @DisplayName("상품 목록이 바뀌지 않았다면 ETag로 다시 조회할 때 304를 응답한다")
+    @Test
+    void getProducts_notModified() {
+        상품_등록되어_있음(new ProductAddRequest("치킨", 10_000, 100, "chicken.png"));
+        String eTag = 상품_목록_조회_요청().header(HttpHeaders.ETAG);
+
+        ExtractableResponse<Response> response = 상품_목록_조건부_조회_요청(eTag);
+
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.NOT_MODIFIED.value());
+    }
+
+    @DisplayName("상품이 추가되면 이전 ETag로 조회해도 새 목록을 응답한다")
+    @Test
+    void getProducts_modifiedAfterSave() {
+        Long productId1 = 상품_등록되어_있음(new ProductAddRequest("치킨", 10_000, 100, "chicken.png"));
+        String eTag = 상품_목록_조회_요청().header(HttpHeaders.ETAG);
+        Long productId2 = 상품_등록되어_있음(new ProductAddRequest("맥주", 6_000, 100, "beer.png"));
+
+        ExtractableResponse<Response> response = 상품_목록_조건부_조회_요청(eTag);
+
+        조회_응답됨(response);
+        assertThat(response.header(HttpHeaders.ETAG)).isNotEqualTo(eTag);
+        상품_목록_포함됨(productId1, productId2, response);
+    }
+
     public static ExtractableResponse<Response> 상품_등록_요청(ProductAddRequest request) {
         return RestAssured
                 .given().log().all()
@@ -83,6 +137,26 @@ public class ProductAcceptanceTest extends AcceptanceTest {
                 .extract();
     }
 
+    public static ExtractableResponse<Response> 상품_목록_조건부_조회_요청(String eTag) {
+        return RestAssured
+                .given().log().all()
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                .when().get("/api/products")
+                .then().log().all()
+                .extract();
+    }
+
+    public static ExtractableResponse<Response> 상품_목록_페이지_조회_요청(int size) {
+        return RestAssured
+                .given().log().all()
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .queryParam("size", size)
+                .when().get("/api/products")
+                .then().log().all()
+                .extract();
+    }
+
     public static ExtractableResponse<Response> 상품_조회_요청(Long productId) {
         return RestAssured
                 .given().log().all()
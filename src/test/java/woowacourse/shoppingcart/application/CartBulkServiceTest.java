@@ -0,0 +1,110 @@
+package woowacourse.shoppingcart.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+import woowacourse.shoppingcart.dao.CartItemDao;
+import woowacourse.shoppingcart.dao.CustomerDao;
+import woowacourse.shoppingcart.dao.ProductDao;
+import woowacourse.shoppingcart.domain.CartItem;
+import woowacourse.shoppingcart.domain.customer.Customer;
+import woowacourse.shoppingcart.domain.product.Product;
+import woowacourse.shoppingcart.dto.cartItem.CartItemBulkRequest;
+import woowacourse.shoppingcart.dto.cartItem.CartItemBulkRequest.CartItemOperationRequest;
+import woowacourse.shoppingcart.dto.cartItem.CartItemBulkResponse;
+import woowacourse.shoppingcart.dto.cartItem.CartItemBulkResponse.CartItemOperationResponse;
+
+@SpringBootTest
+@Transactional
+class CartBulkServiceTest {
+
+    @Autowired
+    private CartBulkService cartBulkService;
+
+    @Autowired
+    private CartItemDao cartItemDao;
+
+    @Autowired
+    private CustomerDao customerDao;
+
+    @Autowired
+    private ProductDao productDao;
+
+    private Long customerId;
+    private Long beerId;
+    private Long wineId;
+    private Long beerCartItemId;
+
+    @BeforeEach
+    void setUp() {
+        customerId = customerDao.save(Customer.builder()
+                .username("customer")
+                .password("ef92b778bafe771e89245b89ecbc08a44a4e166c06659911881f383d4473e94f")
+                .phoneNumber("01012345678")
+                .address("SeongDam building")
+                .build());
+        beerId = productDao.save(product("beer"));
+        wineId = productDao.save(product("wine"));
+        beerCartItemId = cartItemDao.save(customerId, new CartItem(productDao.findProductById(beerId), 1));
+    }
+
+    @DisplayName("일부 작업이 실패해도 나머지 작업은 반영되고, 결과는 요청 순서대로 돌려준다.")
+    @Test
+    void apply_partialFailure() {
+        CartItemBulkResponse response = cartBulkService.apply("customer", new CartItemBulkRequest(List.of(
+                CartItemOperationRequest.add(wineId, 2),
+                CartItemOperationRequest.add(999L, 1),
+                CartItemOperationRequest.update(beerCartItemId, 20),
+                CartItemOperationRequest.update(999L, 1),
+                CartItemOperationRequest.delete(999L),
+                CartItemOperationRequest.delete(beerCartItemId))));
+
+        assertThat(response.getResults())
+                .extracting(CartItemOperationResponse::isSuccess, CartItemOperationResponse::getMessage)
+                .containsExactly(
+                        tuple(true, null),
+                        tuple(false, "올바르지 않은 사용자 이름이거나 상품 아이디 입니다."),
+                        tuple(false, "해당 상품은 10개 남아있습니다"),
+                        tuple(false, "장바구니 아이템이 없습니다."),
+                        tuple(false, "장바구니 아이템이 없습니다."),
+                        tuple(true, null));
+        assertThat(quantitiesByProductId()).containsExactly(Map.entry(wineId, 2));
+    }
+
+    @DisplayName("요청 순서와 상관없이 추가, 수정, 삭제 순서로 처리한다.")
+    @Test
+    void apply_addThenUpdateThenDelete() {
+        Long wineCartItemId = cartItemDao.save(customerId, new CartItem(productDao.findProductById(wineId), 1));
+
+        cartBulkService.apply("customer", new CartItemBulkRequest(List.of(
+                CartItemOperationRequest.delete(beerCartItemId),
+                CartItemOperationRequest.update(wineCartItemId, 5),
+                CartItemOperationRequest.add(wineId, 2),
+                CartItemOperationRequest.add(beerId, 1))));
+
+        assertThat(quantitiesByProductId()).containsExactly(Map.entry(wineId, 5));
+    }
+
+    private Map<Long, Integer> quantitiesByProductId() {
+        return cartItemDao.findAllByCustomerId(customerId).stream()
+                .collect(Collectors.toMap(cartItem -> cartItem.getProduct().getId(), CartItem::getQuantity));
+    }
+
+    private Product product(final String name) {
+        return Product.builder()
+                .productName(name)
+                .price(3_000)
+                .stock(10)
+                .imageUrl(name + ".png")
+                .build();
+    }
+}
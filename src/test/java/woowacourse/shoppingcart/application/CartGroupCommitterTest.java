@@ -0,0 +1,145 @@
+package woowacourse.shoppingcart.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+import woowacourse.shoppingcart.dao.CustomerDao;
+import woowacourse.shoppingcart.dao.ProductDao;
+import woowacourse.shoppingcart.domain.CartItem;
+import woowacourse.shoppingcart.domain.product.Product;
+import woowacourse.shoppingcart.dto.cartItem.CartItemAddRequest;
+import woowacourse.shoppingcart.exception.CartUnavailableException;
+import woowacourse.shoppingcart.exception.InvalidCartItemException;
+import woowacourse.shoppingcart.exception.InvalidProductException;
+
+@TestPropertySource(properties = "shoppingcart.cart.group-commit.enabled=true")
+class CartGroupCommitterTest extends IntegrationTest {
+
+    private static final int CUSTOMER_COUNT = 200;
+
+    @Autowired
+    private CartGroupCommitter cartGroupCommitter;
+
+    @Autowired
+    private ProductDao productDao;
+
+    @Autowired
+    private CartBulkService cartBulkService;
+
+    @Autowired
+    private CustomerDao customerDao;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @DisplayName("동시에 들어온 장바구니 추가 요청을 모아서 처리해도 모든 요청이 반영된다.")
+    @Test
+    void add_concurrently() throws InterruptedException {
+        Long productId = productDao.save(beer());
+        List<String> usernames = saveCustomers(CUSTOMER_COUNT);
+
+        int successCount = runConcurrently(usernames,
+                username -> cartGroupCommitter.add(username, new CartItemAddRequest(productId, 2)));
+
+        int cartItemCount = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM cart_item WHERE product_id = ? AND quantity = 2", Integer.class, productId);
+        assertThat(successCount).isEqualTo(CUSTOMER_COUNT);
+        assertThat(cartItemCount).isEqualTo(CUSTOMER_COUNT);
+    }
+
+    @DisplayName("장바구니에 추가하면 저장된 아이디와 수량을 돌려준다.")
+    @Test
+    void add() {
+        Long productId = productDao.save(beer());
+        String username = saveCustomers(1).get(0);
+
+        cartGroupCommitter.add(username, new CartItemAddRequest(productId, 2));
+        CartItem cartItem = cartGroupCommitter.add(username, new CartItemAddRequest(productId, 3));
+
+        assertThat(cartItem.getId()).isNotNull();
+        assertThat(cartItem.getQuantity()).isEqualTo(5);
+        assertThat(cartItem.getProduct().getId()).isEqualTo(productId);
+    }
+
+    @DisplayName("존재하지 않는 상품을 추가하면 동기 처리와 같은 예외가 발생한다.")
+    @Test
+    void add_notExistProduct_throwsException() {
+        String username = saveCustomers(1).get(0);
+
+        assertThatThrownBy(() -> cartGroupCommitter.add(username, new CartItemAddRequest(999L, 1)))
+                .isInstanceOf(InvalidProductException.class)
+                .hasMessage("올바르지 않은 사용자 이름이거나 상품 아이디 입니다.");
+    }
+
+    @DisplayName("재고보다 많은 수량으로 수정하면 남은 재고를 알려주는 예외가 발생한다.")
+    @Test
+    void updateQuantity_overStock_throwsException() {
+        Long productId = productDao.save(beer());
+        String username = saveCustomers(1).get(0);
+        Long cartItemId = cartGroupCommitter.add(username, new CartItemAddRequest(productId, 1)).getId();
+
+        assertThatThrownBy(() -> cartGroupCommitter.updateQuantity(username, cartItemId, 11))
+                .isInstanceOf(InvalidCartItemException.class)
+                .hasMessage("해당 상품은 10개 남아있습니다");
+    }
+
+    @DisplayName("제한 시간 안에 처리되지 않은 요청은 취소되어 나중에도 반영되지 않는다.")
+    @Test
+    void add_timeout_cancelled() {
+        Long productId = productDao.save(beer());
+        String username = saveCustomers(1).get(0);
+        CartGroupCommitter committer = newCommitter(2);
+        try {
+            assertThatThrownBy(() -> committer.add(username, new CartItemAddRequest(productId, 2)))
+                    .isInstanceOf(CartUnavailableException.class);
+
+            committer.start();
+            CartItem cartItem = committer.add(username, new CartItemAddRequest(productId, 3));
+
+            assertThat(cartItem.getQuantity()).isEqualTo(3);
+        } finally {
+            committer.stop();
+        }
+    }
+
+    @DisplayName("대기열이 가득 차면 요청을 처리하지 않고 실패한다.")
+    @Test
+    void add_queueFull_throwsException() {
+        Long productId = productDao.save(beer());
+        String username = saveCustomers(1).get(0);
+        CartGroupCommitter committer = newCommitter(1);
+        try {
+            assertThatThrownBy(() -> committer.add(username, new CartItemAddRequest(productId, 2)))
+                    .isInstanceOf(CartUnavailableException.class);
+            assertThatThrownBy(() -> committer.add(username, new CartItemAddRequest(productId, 2)))
+                    .isInstanceOf(CartUnavailableException.class);
+
+            int cartItemCount = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM cart_item WHERE product_id = ?", Integer.class, productId);
+            assertThat(cartItemCount).isZero();
+        } finally {
+            committer.stop();
+        }
+    }
+
+    private CartGroupCommitter newCommitter(final int queueCapacity) {
+        return new CartGroupCommitter(cartBulkService, customerDao, transactionTemplate, true,
+                Duration.ofMillis(2), 64, queueCapacity, Duration.ofMillis(100));
+    }
+
+    private Product beer() {
+        return Product.builder()
+                .productName("beer")
+                .price(3_000)
+                .stock(10)
+                .imageUrl("beer.png")
+                .build();
+    }
+}
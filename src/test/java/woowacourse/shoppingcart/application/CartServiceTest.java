@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 
+import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -16,6 +17,8 @@ import woowacourse.shoppingcart.domain.CartItem;
 import woowacourse.shoppingcart.domain.customer.Customer;
 import woowacourse.shoppingcart.domain.product.Product;
 import woowacourse.shoppingcart.dto.cartItem.CartItemAddRequest;
+import woowacourse.shoppingcart.exception.InvalidCartItemException;
+import woowacourse.shoppingcart.exception.NotInCustomerCartItemException;
 
 @SpringBootTest
 @Transactional
@@ -64,6 +67,43 @@ class CartServiceTest {
         assertThatThrownBy(() -> cartService.add(customer.getUsername(), new CartItemAddRequest(productId, 11)));
     }
 
+    @DisplayName("카트 아이템 추가 시 저장된 아이템을 반환한다")
+    @Test
+    void add_returnsSavedCartItem() {
+        customerDao.save(customer);
+        Long productId = productDao.save(product);
+
+        CartItem cartItem = cartService.add(customer.getUsername(), new CartItemAddRequest(productId, 2));
+
+        assertThat(cartItem).usingRecursiveComparison()
+                .isEqualTo(cartItemDao.findByIds(List.of(cartItem.getId())).get(0));
+    }
+
+    @DisplayName("같은 상품을 다시 추가하면 수량이 합쳐진다")
+    @Test
+    void add_sameProduct_mergesQuantity() {
+        Long customerId = customerDao.save(customer);
+        Long productId = productDao.save(product);
+
+        Long cartItemId = cartService.add(customer.getUsername(), new CartItemAddRequest(productId, 1)).getId();
+        Long sameCartItemId = cartService.add(customer.getUsername(), new CartItemAddRequest(productId, 2)).getId();
+
+        assertThat(sameCartItemId).isEqualTo(cartItemId);
+        assertThat(cartItemDao.findIdsByCustomerId(customerId)).containsExactly(cartItemId);
+        assertThat(cartItemDao.findByIds(List.of(cartItemId)).get(0).getQuantity()).isEqualTo(3);
+    }
+
+    @DisplayName("합쳐진 수량이 재고보다 많으면 예외 발생")
+    @Test
+    void add_mergedQuantityOverStock_throwsException() {
+        customerDao.save(customer);
+        Long productId = productDao.save(product);
+        cartService.add(customer.getUsername(), new CartItemAddRequest(productId, 6));
+
+        assertThatThrownBy(() -> cartService.add(customer.getUsername(), new CartItemAddRequest(productId, 5)))
+                .isInstanceOf(InvalidCartItemException.class);
+    }
+
     @DisplayName("카트 아이템 수량 수정")
     @Test
     void updateQuantity() {
@@ -72,10 +112,40 @@ class CartServiceTest {
         Product savedProduct = productDao.findProductById(productId);
         Long cartItemId = cartItemDao.save(customerId, new CartItem(savedProduct, 1));
 
-        cartService.updateQuantity(cartItemId, 2);
-        CartItem result = cartItemDao.findById(cartItemId);
+        cartService.updateQuantity(customer.getUsername(), cartItemId, 2);
+        CartItem result = cartItemDao.findByIds(List.of(cartItemId)).get(0);
 
         assertThat(result.getQuantity()).isEqualTo(2);
     }
 
+    @DisplayName("카트 아이템 수량을 재고보다 많게 수정하면 예외 발생")
+    @Test
+    void updateQuantity_overStock_throwsException() {
+        Long customerId = customerDao.save(customer);
+        Long productId = productDao.save(product);
+        Long cartItemId = cartItemDao.save(customerId, new CartItem(productDao.findProductById(productId), 1));
+
+        assertThatThrownBy(() -> cartService.updateQuantity(customer.getUsername(), cartItemId, 11))
+                .isInstanceOf(InvalidCartItemException.class)
+                .hasMessage("해당 상품은 10개 남아있습니다");
+    }
+
+    @DisplayName("다른 회원의 카트 아이템 수량을 수정하면 예외 발생")
+    @Test
+    void updateQuantity_otherCustomer_throwsException() {
+        Long customerId = customerDao.save(customer);
+        Long productId = productDao.save(product);
+        Long cartItemId = cartItemDao.save(customerId, new CartItem(productDao.findProductById(productId), 1));
+        Customer other = Customer.builder()
+                .username("other")
+                .password("ef92b778bafe771e89245b89ecbc08a44a4e166c06659911881f383d4473e94f")
+                .phoneNumber("01012345678")
+                .address("SeongDam building")
+                .build();
+        customerDao.save(other);
+
+        assertThatThrownBy(() -> cartService.updateQuantity("other", cartItemId, 2))
+                .isInstanceOf(NotInCustomerCartItemException.class);
+    }
+
 }
@@ -0,0 +1,74 @@
+package woowacourse.shoppingcart.application;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.Sql.ExecutionPhase;
+
+@SpringBootTest
+@Sql(scripts = {"classpath:schema.sql", "classpath:data.sql"}, executionPhase = ExecutionPhase.AFTER_TEST_METHOD)
+public class IntegrationTest {
+
+    private static final int THREAD_COUNT = 32;
+    private static final String PASSWORD = "ef92b778bafe771e89245b89ecbc08a44a4e166c06659911881f383d4473e94f";
+
+    @Autowired
+    protected JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @BeforeEach
+    @AfterEach
+    void clearCaches() {
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+    }
+
+    protected List<String> saveCustomers(final int count) {
+        final List<String> usernames = IntStream.range(0, count)
+                .mapToObj(index -> "buyer" + index)
+                .collect(Collectors.toList());
+        jdbcTemplate.batchUpdate("INSERT INTO customer (username, password, phone_number, address) "
+                        + "VALUES (?, ?, ?, ?)",
+                usernames.stream()
+                        .map(username -> new Object[]{username, PASSWORD, "01012345678", "성담빌딩"})
+                        .collect(Collectors.toList()));
+        return usernames;
+    }
+
+    protected <T> int runConcurrently(final List<T> inputs, final Consumer<T> task) throws InterruptedException {
+        final AtomicInteger successCount = new AtomicInteger();
+        final ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        final CountDownLatch startLatch = new CountDownLatch(1);
+        final CountDownLatch doneLatch = new CountDownLatch(inputs.size());
+        for (T input : inputs) {
+            executorService.execute(() -> {
+                try {
+                    startLatch.await();
+                    task.accept(input);
+                    successCount.incrementAndGet();
+                } catch (Exception ignored) {
+                } finally {
+                    doneLatch.countDown();
+                }
+            });
+        }
+        startLatch.countDown();
+        doneLatch.await(60, TimeUnit.SECONDS);
+        executorService.shutdown();
+        return successCount.get();
+    }
+}
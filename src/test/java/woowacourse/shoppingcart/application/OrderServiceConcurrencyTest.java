@@ -0,0 +1,77 @@
+package woowacourse.shoppingcart.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import woowacourse.shoppingcart.dao.ProductDao;
+import woowacourse.shoppingcart.domain.product.Product;
+import woowacourse.shoppingcart.dto.OrderRequest;
+
+class OrderServiceConcurrencyTest extends IntegrationTest {
+
+    private static final int CUSTOMER_COUNT = 2_000;
+    private static final int INITIAL_STOCK = 500;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private ProductDao productDao;
+
+    @Autowired
+    private HotStockManager hotStockManager;
+
+    @DisplayName("하나의 상품을 동시에 주문해도 재고보다 많이 팔리지 않는다.")
+    @Test
+    void save_concurrently_neverOversell() throws InterruptedException {
+        Long productId = saveBeer();
+
+        assertNeverOversell(productId);
+    }
+
+    @DisplayName("인기 상품을 동시에 주문해도 재고보다 많이 팔리지 않고, 주문과 함께 재고가 줄어든다.")
+    @Test
+    void save_hotProductConcurrently_neverOversell() throws InterruptedException {
+        Long productId = saveBeer();
+        hotStockManager.enable(productId);
+
+        assertNeverOversell(productId);
+    }
+
+    private Long saveBeer() {
+        return productDao.save(Product.builder()
+                .productName("beer")
+                .price(3_000)
+                .stock(INITIAL_STOCK)
+                .imageUrl("beer.png")
+                .build());
+    }
+
+    private void assertNeverOversell(final Long productId) throws InterruptedException {
+        List<String> usernames = saveCustomersWithCartItem(productId);
+
+        int successCount = runConcurrently(usernames,
+                username -> orderService.save(List.of(new OrderRequest(findCartItemId(username))), username));
+
+        int stock = jdbcTemplate.queryForObject("SELECT stock FROM product WHERE id = ?", Integer.class, productId);
+        int orderCount = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM orders", Integer.class);
+        assertThat(successCount).isPositive().isLessThanOrEqualTo(INITIAL_STOCK);
+        assertThat(stock).isGreaterThanOrEqualTo(0).isEqualTo(INITIAL_STOCK - successCount);
+        assertThat(orderCount).isEqualTo(successCount);
+    }
+
+    private List<String> saveCustomersWithCartItem(final Long productId) {
+        List<String> usernames = saveCustomers(CUSTOMER_COUNT);
+        jdbcTemplate.update("INSERT INTO cart_item (customer_id, product_id, quantity) "
+                + "SELECT id, ?, 1 FROM customer WHERE username LIKE 'buyer%'", productId);
+        return usernames;
+    }
+
+    private Long findCartItemId(final String username) {
+        return jdbcTemplate.queryForObject("SELECT c.id FROM cart_item c "
+                + "INNER JOIN customer u ON c.customer_id = u.id WHERE u.username = ?", Long.class, username);
+    }
+}
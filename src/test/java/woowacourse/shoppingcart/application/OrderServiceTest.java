@@ -1,20 +1,37 @@
 package woowacourse.shoppingcart.application;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mockingDetails;
 
 import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.transaction.annotation.Transactional;
 import woowacourse.shoppingcart.dao.CartItemDao;
 import woowacourse.shoppingcart.dao.CustomerDao;
+import woowacourse.shoppingcart.dao.OrderDao;
+import woowacourse.shoppingcart.dao.OrdersDetailDao;
 import woowacourse.shoppingcart.dao.ProductDao;
 import woowacourse.shoppingcart.domain.CartItem;
+import woowacourse.shoppingcart.domain.Order;
+import woowacourse.shoppingcart.domain.OrderDetail;
+import woowacourse.shoppingcart.domain.OrderStatus;
 import woowacourse.shoppingcart.domain.customer.Customer;
 import woowacourse.shoppingcart.domain.product.Product;
 import woowacourse.shoppingcart.dto.OrderRequest;
+import woowacourse.shoppingcart.dto.order.OrderStatusResponse;
+import woowacourse.shoppingcart.dto.order.OrderSummariesResponse;
+import woowacourse.shoppingcart.dto.order.OrderSummaryResponse;
+import woowacourse.shoppingcart.dto.order.OrdersResponse;
+import woowacourse.shoppingcart.exception.InvalidCartItemException;
+import woowacourse.shoppingcart.exception.InvalidOrderException;
 
 @SpringBootTest
 @Transactional
@@ -32,6 +49,15 @@ class OrderServiceTest {
     @Autowired
     private ProductDao productDao;
 
+    @Autowired
+    private OrderDao orderDao;
+
+    @Autowired
+    private OrdersDetailDao ordersDetailDao;
+
+    @SpyBean
+    private JdbcTemplate jdbcTemplate;
+
     private Customer customer = Customer.builder()
             .username("customer")
             .password("ef92b778bafe771e89245b89ecbc08a44a4e166c06659911881f383d4473e94f")
@@ -58,4 +84,237 @@ class OrderServiceTest {
         assertThat(orderId).isNotNull();
     }
 
-}
\ No newline at end of file
+    @DisplayName("주문한 수량만큼 상품 재고가 차감된다.")
+    @Test
+    void save_decreaseStock() {
+        Long customerId = customerDao.save(customer);
+        Long productId = productDao.save(beer);
+        Long cartItemId = cartItemDao.save(customerId, new CartItem(productDao.findProductById(productId), 3));
+
+        orderService.save(List.of(new OrderRequest(cartItemId)), "customer");
+
+        assertThat(productDao.findProductById(productId).getStock()).isEqualTo(7);
+    }
+
+    @DisplayName("주문한 장바구니 아이템들은 장바구니에서 삭제된다.")
+    @Test
+    void save_deleteOrderedCartItems() {
+        Long customerId = customerDao.save(customer);
+        Product product1 = productDao.findProductById(productDao.save(beer));
+        Product product2 = productDao.findProductById(productDao.save(beer));
+        Long cartItemId1 = cartItemDao.save(customerId, new CartItem(product1, 1));
+        Long cartItemId2 = cartItemDao.save(customerId, new CartItem(product2, 2));
+
+        orderService.save(List.of(new OrderRequest(cartItemId1), new OrderRequest(cartItemId2)), "customer");
+
+        assertThat(cartItemDao.findIdsByCustomerId(customerId)).isEmpty();
+    }
+
+    @DisplayName("같은 Idempotency-Key로 다시 주문하면 새 주문을 만들지 않고 처음 주문 id를 반환한다.")
+    @Test
+    void save_sameIdempotencyKey() {
+        Long customerId = customerDao.save(customer);
+        Long productId = productDao.save(beer);
+        Long cartItemId = cartItemDao.save(customerId, new CartItem(productDao.findProductById(productId), 3));
+        List<OrderRequest> orderRequests = List.of(new OrderRequest(cartItemId));
+
+        Long orderId = orderService.save(orderRequests, "customer", "order-key").getId();
+        Long retriedOrderId = orderService.save(orderRequests, "customer", "order-key").getId();
+
+        assertThat(retriedOrderId).isEqualTo(orderId);
+        assertThat(orderDao.findOrdersByCustomerId(customerId, 0L, 10)).extracting(Order::getId)
+                .containsExactly(orderId);
+        assertThat(productDao.findProductById(productId).getStock()).isEqualTo(7);
+    }
+
+    @DisplayName("같은 Idempotency-Key로 다른 주문을 요청하면 예외 발생")
+    @Test
+    void save_sameIdempotencyKeyWithDifferentRequest_throwsException() {
+        Long customerId = customerDao.save(customer);
+        Product product1 = productDao.findProductById(productDao.save(beer));
+        Product product2 = productDao.findProductById(productDao.save(beer));
+        Long cartItemId1 = cartItemDao.save(customerId, new CartItem(product1, 1));
+        Long cartItemId2 = cartItemDao.save(customerId, new CartItem(product2, 1));
+        orderService.save(List.of(new OrderRequest(cartItemId1)), "customer", "order-key");
+
+        assertThatThrownBy(() -> orderService.save(List.of(new OrderRequest(cartItemId2)), "customer", "order-key"))
+                .isInstanceOf(InvalidOrderException.class);
+    }
+
+    @DisplayName("대기 중인 주문의 Idempotency-Key로 다시 주문하면 대기 중인 주문을 반환한다.")
+    @Test
+    void save_pendingIdempotencyKey() {
+        Long customerId = customerDao.save(customer);
+        Long productId = productDao.save(beer);
+        Long cartItemId = cartItemDao.save(customerId, new CartItem(productDao.findProductById(productId), 3));
+        List<OrderRequest> orderRequests = List.of(new OrderRequest(cartItemId));
+        Long orderId = orderService.savePending(orderRequests, "customer", "order-key", id -> {
+        }).getId();
+
+        OrderStatusResponse response = orderService.save(orderRequests, "customer", "order-key");
+
+        assertThat(response.getId()).isEqualTo(orderId);
+        assertThat(response.getStatus()).isEqualTo(OrderStatus.PENDING);
+        assertThat(productDao.findProductById(productId).getStock()).isEqualTo(10);
+    }
+
+    @DisplayName("실패한 주문의 Idempotency-Key로 다시 주문하면 새 주문을 처리한다.")
+    @Test
+    void save_failedIdempotencyKey() {
+        Long customerId = customerDao.save(customer);
+        Long productId = productDao.save(beer);
+        Long cartItemId = cartItemDao.save(customerId, new CartItem(productDao.findProductById(productId), 3));
+        List<OrderRequest> orderRequests = List.of(new OrderRequest(cartItemId));
+        Long failedOrderId = orderService.savePending(orderRequests, "customer", "order-key", id -> {
+        }).getId();
+        orderService.fail(failedOrderId, "beer 상품의 재고가 부족합니다.");
+
+        OrderStatusResponse response = orderService.save(orderRequests, "customer", "order-key");
+        Long retriedOrderId = orderService.save(orderRequests, "customer", "order-key").getId();
+
+        assertThat(response.getId()).isNotEqualTo(failedOrderId);
+        assertThat(response.getStatus()).isEqualTo(OrderStatus.COMPLETED);
+        assertThat(retriedOrderId).isEqualTo(response.getId());
+        assertThat(productDao.findProductById(productId).getStock()).isEqualTo(7);
+    }
+
+    @DisplayName("대기 중인 주문을 처리하면 재고를 차감하고 완료 상태가 된다.")
+    @Test
+    void savePending_checkout() {
+        Long customerId = customerDao.save(customer);
+        Long productId = productDao.save(beer);
+        Long cartItemId = cartItemDao.save(customerId, new CartItem(productDao.findProductById(productId), 3));
+
+        Long orderId = orderService.savePending(List.of(new OrderRequest(cartItemId)), "customer", null,
+                id -> {
+                }).getId();
+        OrderStatus pendingStatus = orderService.findStatus("customer", orderId).getStatus();
+        orderService.checkout(orderId, List.of(cartItemId));
+
+        assertThat(pendingStatus).isEqualTo(OrderStatus.PENDING);
+        assertThat(orderService.findStatus("customer", orderId).getStatus()).isEqualTo(OrderStatus.COMPLETED);
+        assertThat(productDao.findProductById(productId).getStock()).isEqualTo(7);
+        assertThat(cartItemDao.findIdsByCustomerId(customerId)).isEmpty();
+    }
+
+    @DisplayName("완료되지 않은 주문을 단일 조회하면 예외 발생")
+    @Test
+    void findOrderById_pending_throwsException() {
+        Long customerId = customerDao.save(customer);
+        Long productId = productDao.save(beer);
+        Long cartItemId = cartItemDao.save(customerId, new CartItem(productDao.findProductById(productId), 3));
+        Long orderId = orderService.savePending(List.of(new OrderRequest(cartItemId)), "customer", null,
+                id -> {
+                }).getId();
+
+        assertThatThrownBy(() -> orderService.findOrderById("customer", orderId))
+                .isInstanceOf(InvalidOrderException.class);
+    }
+
+    @DisplayName("처리에 실패한 주문은 실패 사유와 함께 실패 상태가 된다.")
+    @Test
+    void savePending_fail() {
+        Long customerId = customerDao.save(customer);
+        Long productId = productDao.save(beer);
+        Long cartItemId = cartItemDao.save(customerId, new CartItem(productDao.findProductById(productId), 3));
+        Long orderId = orderService.savePending(List.of(new OrderRequest(cartItemId)), "customer", null,
+                id -> {
+                }).getId();
+
+        orderService.fail(orderId, "beer 상품의 재고가 부족합니다.");
+
+        OrderStatusResponse response = orderService.findStatus("customer", orderId);
+        assertThat(response.getStatus()).isEqualTo(OrderStatus.FAILED);
+        assertThat(response.getFailureReason()).isEqualTo("beer 상품의 재고가 부족합니다.");
+    }
+
+    @DisplayName("남아 있는 대기 주문을 모두 실패 처리한다.")
+    @Test
+    void failPendingOrders() {
+        Long customerId = customerDao.save(customer);
+        Long productId = productDao.save(beer);
+        Long cartItemId = cartItemDao.save(customerId, new CartItem(productDao.findProductById(productId), 3));
+        Long orderId = orderService.savePending(List.of(new OrderRequest(cartItemId)), "customer", null,
+                id -> {
+                }).getId();
+
+        orderService.failPendingOrders();
+
+        assertThat(orderService.findStatus("customer", orderId).getStatus()).isEqualTo(OrderStatus.FAILED);
+        assertThat(cartItemDao.findIdsByCustomerId(customerId)).containsExactly(cartItemId);
+    }
+
+    @DisplayName("존재하지 않는 장바구니 아이템을 주문하면 예외 발생")
+    @Test
+    void save_notExistCartItem_throwsException() {
+        customerDao.save(customer);
+
+        assertThatThrownBy(() -> orderService.save(List.of(new OrderRequest(999L)), "customer"))
+                .isInstanceOf(InvalidCartItemException.class);
+    }
+
+    @DisplayName("주문 내역 조회 쿼리 수는 주문 개수와 관계없이 일정하다.")
+    @Test
+    void findOrdersByCustomerName_constantQueryCount() {
+        Long customerId = customerDao.save(customer);
+        Long productId = productDao.save(beer);
+        saveOrders(customerId, productId, 1);
+        int jdbcCallsWithOneOrder = countJdbcCalls(() -> orderService.findOrdersByCustomerName("customer", null, 100));
+
+        saveOrders(customerId, productId, 20);
+        int jdbcCallsWithManyOrders = countJdbcCalls(() -> orderService.findOrdersByCustomerName("customer", null, 100));
+
+        assertThat(orderService.findOrdersByCustomerName("customer", null, 100).getOrders()).hasSize(21);
+        assertThat(jdbcCallsWithManyOrders).isEqualTo(jdbcCallsWithOneOrder);
+    }
+
+    @DisplayName("주문 내역을 페이지 단위로 조회하고 다음 cursor를 반환한다.")
+    @Test
+    void findOrdersByCustomerName_paging() {
+        Long customerId = customerDao.save(customer);
+        Long productId = productDao.save(beer);
+        saveOrders(customerId, productId, 3);
+
+        OrdersResponse firstPage = orderService.findOrdersByCustomerName("customer", null, 2);
+        OrdersResponse lastPage = orderService.findOrdersByCustomerName("customer", firstPage.getNextCursor(), 2);
+
+        assertThat(firstPage.getOrders()).hasSize(2);
+        assertThat(lastPage.getOrders()).hasSize(1);
+        assertThat(lastPage.getNextCursor()).isNull();
+    }
+
+    @DisplayName("주문을 저장하면 총 금액과 주문 항목 수를 함께 저장하고, 요약 목록으로 조회한다.")
+    @Test
+    void save_orderSummary() {
+        Long customerId = customerDao.save(customer);
+        Product product1 = productDao.findProductById(productDao.save(beer));
+        Product product2 = productDao.findProductById(productDao.save(beer));
+        Long cartItemId1 = cartItemDao.save(customerId, new CartItem(product1, 1));
+        Long cartItemId2 = cartItemDao.save(customerId, new CartItem(product2, 2));
+
+        Long orderId = orderService.save(List.of(new OrderRequest(cartItemId1), new OrderRequest(cartItemId2)),
+                "customer");
+
+        OrderSummariesResponse response = orderService.findOrderSummariesByCustomerName("customer", null, 10);
+        assertThat(response.getOrders()).extracting(OrderSummaryResponse::getId, OrderSummaryResponse::getTotalPrice,
+                        OrderSummaryResponse::getItemCount)
+                .containsExactly(tuple(orderId, 9_000L, 2));
+        assertThat(response.getNextCursor()).isNull();
+    }
+
+    private void saveOrders(final Long customerId, final Long productId, final int count) {
+        for (int i = 0; i < count; i++) {
+            List<OrderDetail> orderDetails = List.of(
+                    new OrderDetail(1, productId, 3_000, "beer", "beer.png"),
+                    new OrderDetail(2, productId, 3_000, "beer", "beer.png"));
+            Long orderId = orderDao.save(customerId, new Order(orderDetails));
+            ordersDetailDao.saveAll(orderId, orderDetails);
+        }
+    }
+
+    private int countJdbcCalls(final Runnable runnable) {
+        clearInvocations(jdbcTemplate);
+        runnable.run();
+        return mockingDetails(jdbcTemplate).getInvocations().size();
+    }
+}
@@ -0,0 +1,39 @@
+package woowacourse.shoppingcart.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import woowacourse.shoppingcart.dto.product.ProductAddRequest;
+import woowacourse.shoppingcart.exception.InvalidProductException;
+
+class ProductServiceTest extends IntegrationTest {
+
+    @Autowired
+    private ProductService productService;
+
+    @DisplayName("한 번 조회한 상품은 캐시에서 조회한다.")
+    @Test
+    void findById_cached() {
+        final Long productId = productService.save(new ProductAddRequest("beer", 3_000, 10, "beer.png"));
+        productService.findById(productId);
+
+        jdbcTemplate.update("UPDATE product SET name = ? WHERE id = ?", "changed", productId);
+
+        assertThat(productService.findById(productId).getName()).isEqualTo("beer");
+    }
+
+    @DisplayName("상품을 삭제하면 캐시에서도 제거된다.")
+    @Test
+    void deleteById_evictsCache() {
+        final Long productId = productService.save(new ProductAddRequest("beer", 3_000, 10, "beer.png"));
+        productService.findById(productId);
+
+        productService.deleteById(productId);
+
+        assertThatThrownBy(() -> productService.findById(productId))
+                .isInstanceOf(InvalidProductException.class);
+    }
+}
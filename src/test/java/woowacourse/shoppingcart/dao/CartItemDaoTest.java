@@ -1,7 +1,7 @@
 package woowacourse.shoppingcart.dao;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
@@ -18,6 +18,7 @@ import woowacourse.shoppingcart.domain.product.Price;
 import woowacourse.shoppingcart.domain.product.Product;
 import woowacourse.shoppingcart.domain.product.ProductName;
 import woowacourse.shoppingcart.domain.product.Stock;
+import woowacourse.shoppingcart.exception.InvalidCartItemException;
 
 @JdbcTest
 @AutoConfigureTestDatabase(replace = Replace.NONE)
@@ -46,7 +47,7 @@ public class CartItemDaoTest {
     @Test
     void addCartItem() {
         // given
-        final Long customerId = 1L;
+        final Long customerId = 2L;
         Product product = Product.builder()
                 .id(1L)
                 .productName("banana")
@@ -60,9 +61,9 @@ public class CartItemDaoTest {
         assertThat(cartId).isEqualTo(3L);
     }
 
-    @DisplayName("id로 카트 아이템을 조회한다.")
+    @DisplayName("이미 담긴 상품을 다시 담으면, 같은 카트 아이템의 수량을 늘린다.")
     @Test
-    void findById() {
+    void saveOrIncreaseQuantity_existProduct() {
         // given
         final Long customerId = 1L;
         Product product = Product.builder()
@@ -70,18 +71,46 @@ public class CartItemDaoTest {
                 .productName("banana")
                 .price(1_000)
                 .stock(100)
-                .imageUrl("woowa1.com")
                 .build();
-        CartItem cartItem = new CartItem(product, 1);
-        final Long cartItemId = cartItemDao.save(customerId, cartItem);
 
         // when
-        CartItem result = cartItemDao.findById(cartItemId);
+        CartItem result = cartItemDao.saveOrIncreaseQuantity(customerId, new CartItem(product, 3));
 
         // then
-        assertThat(result).usingRecursiveComparison()
-                .ignoringFields("id")
-                .isEqualTo(cartItem);
+        assertThat(result.getId()).isEqualTo(1L);
+        assertThat(result.getQuantity()).isEqualTo(4);
+        assertThat(cartItemDao.findIdsByCustomerId(customerId)).containsExactly(1L, 2L);
+    }
+
+    @DisplayName("담기지 않은 상품을 담으면, 새 카트 아이템을 만든다.")
+    @Test
+    void saveOrIncreaseQuantity_newProduct() {
+        // given
+        final Long customerId = 2L;
+        Product product = Product.builder()
+                .id(1L)
+                .productName("banana")
+                .price(1_000)
+                .stock(100)
+                .build();
+
+        // when
+        CartItem result = cartItemDao.saveOrIncreaseQuantity(customerId, new CartItem(product, 3));
+
+        // then
+        assertThat(result.getId()).isEqualTo(3L);
+        assertThat(result.getQuantity()).isEqualTo(3);
+    }
+
+    @DisplayName("여러 id로 카트 아이템들을 한 번에 조회한다.")
+    @Test
+    void findByIds() {
+        // when
+        List<CartItem> cartItems = cartItemDao.findByIds(List.of(1L, 2L));
+
+        // then
+        assertThat(cartItems).extracting(CartItem::getId)
+                .containsExactlyInAnyOrder(1L, 2L);
     }
 
     @DisplayName("회원 id로 모든 카트 아이템을 가져온다.")
@@ -135,52 +164,49 @@ public class CartItemDaoTest {
         assertThat(cartIds).containsExactly(1L, 2L);
     }
 
-    @DisplayName("수량을 변경한다.")
+    @DisplayName("재고가 충분하면 수량을 변경한다.")
     @Test
-    void updateQuantity() {
-        // given
-        final Long customerId = 1L;
-        Product product = Product.builder()
-                .id(1L)
-                .productName("banana")
-                .price(1_000)
-                .stock(100)
-                .build();
-
-        Long cartItemId = cartItemDao.save(customerId, new CartItem(product, 1));
-        CartItem cartItem = cartItemDao.findById(cartItemId);
-
-        // when
-        cartItem.changeQuantity(10);
-        assertDoesNotThrow(() -> cartItemDao.updateQuantity(cartItem));
+    void updateQuantityIfStockAvailable() {
+        assertThat(cartItemDao.updateQuantityIfStockAvailable(1L, 1L, 100)).isTrue();
+        assertThat(cartItemDao.findByIds(List.of(1L)).get(0).getQuantity()).isEqualTo(100);
     }
 
-    @DisplayName("해당 id의 카트 아이템을 삭제한다.")
+    @DisplayName("재고보다 많은 수량으로는 변경하지 않는다.")
     @Test
-    void deleteCartItem() {
-        // given
-        final Long cartId = 1L;
+    void updateQuantityIfStockAvailable_overStock() {
+        assertThat(cartItemDao.updateQuantityIfStockAvailable(1L, 1L, 101)).isFalse();
+        assertThat(cartItemDao.findByIds(List.of(1L)).get(0).getQuantity()).isEqualTo(1);
+    }
 
+    @DisplayName("여러 id의 카트 아이템을 한 번에 삭제한다.")
+    @Test
+    void deleteByIds() {
         // when
-        cartItemDao.deleteById(cartId);
+        cartItemDao.deleteByIds(List.of(1L, 2L));
 
         // then
-        final Long customerId = 1L;
-        final List<Long> productIds = cartItemDao.findProductIdsByCustomerId(customerId);
+        assertThat(cartItemDao.findIdsByCustomerId(1L)).isEmpty();
+    }
 
-        assertThat(productIds).containsExactly(2L);
+    @DisplayName("삭제할 카트 아이템 중 존재하지 않는 id가 있으면 예외가 발생한다.")
+    @Test
+    void deleteByIds_notExistId_throwsException() {
+        assertThatThrownBy(() -> cartItemDao.deleteByIds(List.of(1L, 100L)))
+                .isInstanceOf(InvalidCartItemException.class);
     }
 
-    @DisplayName("해당 id의 customer_id가 주어진 customer_id와 일치하므로 true를 반환한다.")
+    @DisplayName("회원의 카트 아이템이면 삭제하고 true를 반환한다.")
     @Test
-    void isCartItemExistByCustomer_true() {
-        assertThat(cartItemDao.isCartItemExistByCustomer(1L, 1L)).isTrue();
+    void deleteByIdAndCustomerId() {
+        assertThat(cartItemDao.deleteByIdAndCustomerId(1L, 1L)).isTrue();
+        assertThat(cartItemDao.findIdsByCustomerId(1L)).containsExactly(2L);
     }
 
-    @DisplayName("해당 id의 customer_id가 주어진 customer_id와 일치하지 않으므로 false를 반환한다.")
+    @DisplayName("다른 회원의 카트 아이템이면 삭제하지 않고 false를 반환한다.")
     @Test
-    void isCartItemExistByCustomer_false() {
-        assertThat(cartItemDao.isCartItemExistByCustomer(1L, 3L)).isFalse();
+    void deleteByIdAndCustomerId_otherCustomer() {
+        assertThat(cartItemDao.deleteByIdAndCustomerId(1L, 3L)).isFalse();
+        assertThat(cartItemDao.findIdsByCustomerId(1L)).containsExactly(1L, 2L);
     }
 
 }
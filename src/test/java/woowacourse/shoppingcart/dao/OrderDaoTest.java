@@ -1,7 +1,10 @@
 package woowacourse.shoppingcart.dao;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 
+import java.util.ArrayList;
+import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
@@ -10,6 +13,9 @@ import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.TestConstructor;
 import org.springframework.test.context.jdbc.Sql;
+import woowacourse.shoppingcart.domain.Order;
+import woowacourse.shoppingcart.domain.OrderDetail;
+import woowacourse.shoppingcart.domain.OrderSummary;
 
 @JdbcTest
 @AutoConfigureTestDatabase(replace = Replace.NONE)
@@ -17,6 +23,8 @@ import org.springframework.test.context.jdbc.Sql;
 @TestConstructor(autowireMode = TestConstructor.AutowireMode.ALL)
 class OrderDaoTest {
 
+    private static final Order EMPTY_ORDER = new Order(List.of());
+
     private final JdbcTemplate jdbcTemplate;
     private final OrderDao orderDao;
 
@@ -32,25 +40,82 @@ class OrderDaoTest {
         final Long customerId = 1L;
 
         //when
-        final Long orderId = orderDao.save(customerId);
+        final Long orderId = orderDao.save(customerId, EMPTY_ORDER);
 
         //then
         assertThat(orderId).isNotNull();
     }
 
-//    @DisplayName("CustomerId 집합을 이용하여 OrderId 집합을 얻는 기능")
-//    @Test
-//    void findOrderIdsByCustomerId() {
-//        //given
-//        final Long customerId = 1L;
-//        jdbcTemplate.update("INSERT INTO ORDERS (customer_id) VALUES (?)", customerId);
-//        jdbcTemplate.update("INSERT INTO ORDERS (customer_id) VALUES (?)", customerId);
-//
-//        //when
-//        final List<Long> orderIdsByCustomerId = orderDao.findOrderIdsByCustomerId(customerId);
-//
-//        //then
-//        assertThat(orderIdsByCustomerId).hasSize(2);
-//    }
+    @DisplayName("CustomerId로 주문과 주문 상세를 한 번에 조회하는 기능")
+    @Test
+    void findOrdersByCustomerId() {
+        //given
+        final Long customerId = 1L;
+        final Long productId = saveProduct();
+        final Long orderId1 = orderDao.save(customerId, EMPTY_ORDER);
+        final Long orderId2 = orderDao.save(customerId, EMPTY_ORDER);
+        saveOrderDetail(orderId1, productId);
+        saveOrderDetail(orderId1, productId);
+        saveOrderDetail(orderId2, productId);
+
+        //when
+        final List<Order> orders = orderDao.findOrdersByCustomerId(customerId, 0L, 10);
+
+        //then
+        assertThat(orders).extracting(Order::getId).containsExactly(orderId1, orderId2);
+        assertThat(orders.get(0).getOrderDetails()).hasSize(2);
+        assertThat(orders.get(1).getOrderDetails()).hasSize(1);
+    }
+
+    @DisplayName("cursor 이후의 주문을 limit 개수만큼 조회하는 기능")
+    @Test
+    void findOrdersByCustomerId_afterCursor() {
+        //given
+        final Long customerId = 1L;
+        final Long productId = saveProduct();
+        final Long orderId1 = orderDao.save(customerId, EMPTY_ORDER);
+        final Long orderId2 = orderDao.save(customerId, EMPTY_ORDER);
+        final Long orderId3 = orderDao.save(customerId, EMPTY_ORDER);
+        saveOrderDetail(orderId1, productId);
+        saveOrderDetail(orderId2, productId);
+        saveOrderDetail(orderId2, productId);
+        saveOrderDetail(orderId3, productId);
+
+        //when
+        final List<Order> orders = orderDao.findOrdersByCustomerId(customerId, orderId1, 1);
+
+        //then
+        assertThat(orders).extracting(Order::getId).containsExactly(orderId2);
+        assertThat(orders.get(0).getOrderDetails()).hasSize(2);
+    }
+
+    @DisplayName("CustomerId로 주문 상세 없이 주문 요약을 조회하는 기능")
+    @Test
+    void forEachOrderSummaryByCustomerId() {
+        //given
+        final Long customerId = 1L;
+        final Long orderId = orderDao.save(customerId, new Order(List.of(
+                new OrderDetail(2, 1L, 1_000, "name", "imageUrl"),
+                new OrderDetail(1, 1L, 3_000, "name", "imageUrl"))));
+
+        //when
+        final List<OrderSummary> summaries = new ArrayList<>();
+        orderDao.forEachOrderSummaryByCustomerId(customerId, 0L, 10, summaries::add);
+
+        //then
+        assertThat(summaries).extracting(OrderSummary::getId, OrderSummary::getTotalPrice, OrderSummary::getItemCount)
+                .containsExactly(tuple(orderId, 5_000L, 2));
+    }
+
+    private Long saveProduct() {
+        jdbcTemplate.update("INSERT INTO product (name, price, stock, image_url) VALUES (?, ?, ?, ?)",
+                "name", 1000, 10, "imageUrl");
+        return jdbcTemplate.queryForObject("SELECT LAST_INSERT_ID();", Long.class);
+    }
+
+    private void saveOrderDetail(final Long orderId, final Long productId) {
+        jdbcTemplate.update("INSERT INTO orders_detail (orders_id, product_id, quantity, price, name, image_url) "
+                + "VALUES (?, ?, ?, ?, ?, ?)", orderId, productId, 1, 1000, "name", "imageUrl");
+    }
 
 }
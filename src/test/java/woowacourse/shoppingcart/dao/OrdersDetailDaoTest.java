@@ -1,6 +1,7 @@
 package woowacourse.shoppingcart.dao;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
@@ -34,7 +35,8 @@ class OrdersDetailDaoTest {
     @BeforeEach
     void setUp() {
         customerId = 1L;
-        jdbcTemplate.update("INSERT INTO orders (customer_id) VALUES (?)", customerId);
+        jdbcTemplate.update("INSERT INTO orders (customer_id, total_price, item_count, status) "
+                + "VALUES (?, ?, ?, 'COMPLETED')", customerId, 0, 0);
         ordersId = jdbcTemplate.queryForObject("SELECT LAST_INSERT_ID();", Long.class);
 
         jdbcTemplate.update("INSERT INTO product (name, price, stock, image_url) VALUES (?, ?, ?, ?)"
@@ -55,6 +57,21 @@ class OrdersDetailDaoTest {
         assertThat(orderDetailId).isEqualTo(1L);
     }
 
+    @DisplayName("여러 OrderDetail을 한 번에 추가하는 기능")
+    @Test
+    void saveAll() {
+        //given
+        List<OrderDetail> orderDetails = List.of(
+                new OrderDetail(5, productId, 1_000, "coffee", "coffee.png"),
+                new OrderDetail(3, productId, 1_000, "coffee", "coffee.png"));
+
+        //when
+        ordersDetailDao.saveAll(ordersId, orderDetails);
+
+        //then
+        assertThat(ordersDetailDao.findOrderDetailsByOrderId(ordersId)).hasSize(2);
+    }
+
     @DisplayName("OrderId로 OrderDetails 조회하는 기능")
     @Test
     void findOrderDetailsByOrderId() {
@@ -62,8 +79,8 @@ class OrdersDetailDaoTest {
         final int insertCount = 3;
         for (int i = 0; i < insertCount; i++) {
             jdbcTemplate
-                    .update("INSERT INTO orders_detail (orders_id, product_id, quantity) VALUES (?, ?, ?)",
-                            ordersId, productId, 3);
+                    .update("INSERT INTO orders_detail (orders_id, product_id, quantity, price, name, image_url) "
+                            + "VALUES (?, ?, ?, ?, ?, ?)", ordersId, productId, 3, 1000, "name", "imageUrl");
         }
 
         //when
@@ -73,4 +90,20 @@ class OrdersDetailDaoTest {
         //then
         assertThat(ordersDetailsByOrderId).hasSize(insertCount);
     }
+
+    @DisplayName("주문 이후 상품 정보가 바뀌어도 주문 당시의 가격과 이름으로 조회하는 기능")
+    @Test
+    void findOrderDetailsByOrderId_snapshot() {
+        //given
+        ordersDetailDao.saveAll(ordersId, List.of(new OrderDetail(5, productId, 1_000, "coffee", "coffee.png")));
+        jdbcTemplate.update("UPDATE product SET name = ?, price = ?, image_url = ? WHERE id = ?",
+                "latte", 2_000, "latte.png", productId);
+
+        //when
+        final List<OrderDetail> orderDetails = ordersDetailDao.findOrderDetailsByOrderId(ordersId);
+
+        //then
+        assertThat(orderDetails).extracting(OrderDetail::getName, OrderDetail::getPrice, OrderDetail::getImageUrl)
+                .containsExactly(tuple("coffee", 1_000, "coffee.png"));
+    }
 }
@@ -3,6 +3,7 @@ package woowacourse.shoppingcart.dao;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
@@ -12,6 +13,7 @@ import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.TestConstructor;
 import org.springframework.test.context.jdbc.Sql;
 import woowacourse.shoppingcart.domain.product.Product;
+import woowacourse.shoppingcart.domain.product.ProductSearchCondition;
 
 @JdbcTest
 @AutoConfigureTestDatabase(replace = Replace.NONE)
@@ -77,12 +79,69 @@ public class ProductDaoTest {
         final int size = 0;
 
         // when
-        final List<Product> products = productDao.findProducts();
+        final List<Product> products = productDao.findProducts(ProductSearchCondition.none(), 0L, 100);
 
         // then
         assertThat(products).size().isEqualTo(size);
     }
 
+    @DisplayName("cursor 이후의 상품을 limit 개수만큼 조회한다.")
+    @Test
+    void getProducts_afterCursor() {
+        // given
+        final Long productId1 = productDao.save(createProduct(1_000, 10));
+        final Long productId2 = productDao.save(createProduct(1_000, 10));
+        final Long productId3 = productDao.save(createProduct(1_000, 10));
+
+        // when
+        final List<Product> products = productDao.findProducts(ProductSearchCondition.none(), productId1, 1);
+
+        // then
+        assertThat(products).extracting(Product::getId).containsExactly(productId2);
+    }
+
+    @DisplayName("가격 범위와 재고 조건으로 상품을 조회한다.")
+    @Test
+    void getProducts_withCondition() {
+        // given
+        productDao.save(createProduct(1_000, 10));
+        final Long expectedId = productDao.save(createProduct(2_000, 10));
+        productDao.save(createProduct(2_000, 0));
+        productDao.save(createProduct(3_000, 10));
+
+        // when
+        final List<Product> products = productDao.findProducts(
+                new ProductSearchCondition(1_500, 2_500, true), 0L, 100);
+
+        // then
+        assertThat(products).extracting(Product::getId).containsExactly(expectedId);
+    }
+
+    @DisplayName("재고가 충분한 상품만 재고를 차감하고, 부족한 상품의 id를 반환한다.")
+    @Test
+    void decreaseStocks() {
+        // given
+        final Long enoughId = productDao.save(createProduct(1_000, 10));
+        final Long shortId = productDao.save(createProduct(1_000, 2));
+
+        // when
+        final List<Long> outOfStockIds = productDao.decreaseStocks(Map.of(enoughId, 10, shortId, 3));
+
+        // then
+        assertThat(outOfStockIds).containsExactly(shortId);
+        assertThat(productDao.findProductById(enoughId).getStock()).isZero();
+        assertThat(productDao.findProductById(shortId).getStock()).isEqualTo(2);
+    }
+
+    private Product createProduct(final int price, final int stock) {
+        return Product.builder()
+                .productName("초콜렛")
+                .price(price)
+                .stock(stock)
+                .imageUrl("www.test.com")
+                .build();
+    }
+
     @DisplayName("싱품 삭제")
     @Test
     void deleteProduct() {
@@ -95,13 +154,13 @@ public class ProductDaoTest {
                 .build();
 
         final Long productId = productDao.save(product);
-        final int beforeSize = productDao.findProducts().size();
+        final int beforeSize = productDao.findProducts(ProductSearchCondition.none(), 0L, 100).size();
 
         // when
         productDao.delete(productId);
 
         // then
-        final int afterSize = productDao.findProducts().size();
+        final int afterSize = productDao.findProducts(ProductSearchCondition.none(), 0L, 100).size();
         assertThat(beforeSize - 1).isEqualTo(afterSize);
     }
 }
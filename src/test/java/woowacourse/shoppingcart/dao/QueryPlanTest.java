@@ -0,0 +1,76 @@
+package woowacourse.shoppingcart.dao;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.context.TestConstructor;
+import org.springframework.test.context.jdbc.Sql;
+import woowacourse.shoppingcart.domain.product.ProductSearchCondition;
+
+@JdbcTest
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@Sql("classpath:schema.sql")
+@TestConstructor(autowireMode = TestConstructor.AutowireMode.ALL)
+public class QueryPlanTest {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public QueryPlanTest(final JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    static Stream<Arguments> hotQueries() {
+        return Stream.of(
+                Arguments.of(ProductDao.findProductsPageQuery(ProductSearchCondition.none()), new Object[]{0L, 20}),
+                Arguments.of(ProductDao.findProductsPageQuery(new ProductSearchCondition(1_000, 5_000, true)),
+                        new Object[]{0L, 1_000, 5_000, 20}),
+                Arguments.of(ProductDao.DECREASE_STOCK, new Object[]{1, 1L, 1}),
+                Arguments.of(CartItemDao.FIND_ALL_BY_CUSTOMER_ID, new Object[]{1L}),
+                Arguments.of(CartItemDao.SAVE_OR_INCREASE_QUANTITY, new Object[]{1L, 1L, 1, 1}),
+                Arguments.of(CartItemDao.FIND_BY_CUSTOMER_ID_AND_PRODUCT_ID, new Object[]{1L, 1L}),
+                Arguments.of(CartItemDao.UPDATE_QUANTITY_IF_STOCK_AVAILABLE, new Object[]{1, 1L, 1L, 1}),
+                Arguments.of(CartItemDao.FIND_STOCK_BY_ID_AND_CUSTOMER_ID, new Object[]{1L, 1L}),
+                Arguments.of(CartItemDao.DELETE_BY_ID_AND_CUSTOMER_ID, new Object[]{1L, 1L}),
+                Arguments.of(OrderDao.FIND_ORDERS_PAGE, new Object[]{1L, 0L, 20}),
+                Arguments.of(OrderDao.FIND_ORDER_SUMMARIES_PAGE, new Object[]{1L, 0L, 20}),
+                Arguments.of(OrderDao.FIND_PROGRESS, new Object[]{1L, 1L}),
+                Arguments.of(OrderDao.EXISTS_BY_CUSTOMER_ID_AND_ID, new Object[]{1L, 1L}),
+                Arguments.of(OrdersDetailDao.FIND_BY_ORDER_ID, new Object[]{1L})
+        );
+    }
+
+    static Stream<Arguments> hotNamedQueries() {
+        return Stream.of(
+                Arguments.of(CartItemDao.FIND_BY_IDS, Map.of("ids", List.of(1L, 2L, 3L))),
+                Arguments.of(CartItemDao.FIND_BY_PRODUCT_IDS,
+                        Map.of("customerId", 1L, "productIds", List.of(1L, 2L, 3L)))
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("hotQueries")
+    void hotQueries_useIndex(final String query, final Object[] args) {
+        final String plan = jdbcTemplate.queryForObject("EXPLAIN " + query, String.class, args);
+
+        assertThat(plan).doesNotContainIgnoringCase("tableScan");
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("hotNamedQueries")
+    void hotNamedQueries_useIndex(final String query, final Map<String, Object> params) {
+        final String plan = new NamedParameterJdbcTemplate(jdbcTemplate)
+                .queryForObject("EXPLAIN " + query, params, String.class);
+
+        assertThat(plan).doesNotContainIgnoringCase("tableScan");
+    }
+}
@@ -0,0 +1,37 @@
+package woowacourse.shoppingcart.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class CursorPageTest {
+
+    @DisplayName("size를 넘는 요소는 전달하지 않고, 마지막으로 전달한 요소의 cursor를 다음 cursor로 반환한다.")
+    @Test
+    void accept_overSize() {
+        List<Long> contents = new ArrayList<>();
+        CursorPage<Long> page = new CursorPage<>(2, Function.identity(), contents::add);
+
+        LongStream.rangeClosed(1, page.fetchSize()).boxed().forEach(page);
+
+        assertThat(contents).containsExactly(1L, 2L);
+        assertThat(page.getNextCursor()).isEqualTo(2L);
+    }
+
+    @DisplayName("size 이하의 요소만 전달되면 다음 cursor는 null이다.")
+    @Test
+    void accept_lastPage() {
+        List<Long> contents = new ArrayList<>();
+        CursorPage<Long> page = new CursorPage<>(2, Function.identity(), contents::add);
+
+        LongStream.rangeClosed(1, 2).boxed().forEach(page);
+
+        assertThat(contents).containsExactly(1L, 2L);
+        assertThat(page.getNextCursor()).isNull();
+    }
+}
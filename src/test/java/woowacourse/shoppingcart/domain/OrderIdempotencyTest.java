@@ -0,0 +1,26 @@
+package woowacourse.shoppingcart.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class OrderIdempotencyTest {
+
+    @DisplayName("같은 장바구니 아이템이면 순서가 달라도 같은 요청으로 본다")
+    @Test
+    void hash_orderIndependent() {
+        OrderIdempotency orderIdempotency = new OrderIdempotency(OrderIdempotency.hash(List.of(1L, 2L, 3L)), 1L);
+
+        assertThat(orderIdempotency.matches(OrderIdempotency.hash(List.of(3L, 1L, 2L)))).isTrue();
+    }
+
+    @DisplayName("장바구니 아이템이 다르면 다른 요청으로 본다")
+    @Test
+    void hash_differentCartItems() {
+        OrderIdempotency orderIdempotency = new OrderIdempotency(OrderIdempotency.hash(List.of(1L, 2L)), 1L);
+
+        assertThat(orderIdempotency.matches(OrderIdempotency.hash(List.of(1L, 3L)))).isFalse();
+    }
+}
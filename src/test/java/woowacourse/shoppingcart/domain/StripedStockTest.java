@@ -0,0 +1,58 @@
+package woowacourse.shoppingcart.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import woowacourse.shoppingcart.domain.product.StripedStock;
+
+public class StripedStockTest {
+
+    @DisplayName("여러 구간에 나뉜 재고를 합쳐서 차감할 수 있다.")
+    @Test
+    void tryTake_acrossStripes() {
+        StripedStock stock = new StripedStock(10, 4);
+
+        assertThat(stock.tryTake(10)).isTrue();
+        assertThat(stock.getAvailable()).isZero();
+    }
+
+    @DisplayName("재고가 부족하면 차감하지 않고, 일부 차감한 재고는 되돌린다.")
+    @Test
+    void tryTake_notEnough() {
+        StripedStock stock = new StripedStock(10, 4);
+
+        assertThat(stock.tryTake(11)).isFalse();
+        assertThat(stock.getAvailable()).isEqualTo(10);
+    }
+
+    @DisplayName("동시에 차감해도 재고보다 많이 차감되지 않는다.")
+    @Test
+    void tryTake_concurrently_neverOversell() throws InterruptedException {
+        int initialStock = 1_000;
+        int requestCount = 5_000;
+        StripedStock stock = new StripedStock(initialStock, 16);
+        AtomicInteger successCount = new AtomicInteger();
+        ExecutorService executorService = Executors.newFixedThreadPool(32);
+        CountDownLatch doneLatch = new CountDownLatch(requestCount);
+
+        for (int i = 0; i < requestCount; i++) {
+            executorService.execute(() -> {
+                if (stock.tryTake(1)) {
+                    successCount.incrementAndGet();
+                }
+                doneLatch.countDown();
+            });
+        }
+        doneLatch.await(10, TimeUnit.SECONDS);
+        executorService.shutdown();
+
+        assertThat(successCount.get()).isEqualTo(initialStock);
+        assertThat(stock.getAvailable()).isZero();
+    }
+}